@@ -0,0 +1,199 @@
+package automation.core.base;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Cache dos elementos localizados pela WebBasePage, indexado pelo seletor e pelo contexto (janela/frame).
+ * Cada entrada guarda a verso do DOM em que foi resolvida; a verso  mantida dentro da pgina por um
+ * MutationObserver e qualquer alterao do DOM ou navegao invalida as entradas automaticamente. A
+ * conferncia e a nova localizao ocorrem no mesmo script, custando uma nica chamada ao driver.
+*/
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import automation.logging.log4j.Log4JSetup;
+
+class ElementCache {
+
+	private static final String DEFAULT_CONTEXT = "default";
+
+	private static Logger log = Log4JSetup.getLogger(ElementCache.class);
+	private final Map<String, Entry> entries = new HashMap<String, Entry>();
+	private final WebDriver driver;
+	private final JavascriptExecutor executor;
+	private String window = DEFAULT_CONTEXT;
+	private String context = DEFAULT_CONTEXT;
+
+	ElementCache(WebDriver driver) {
+		this.driver = driver;
+		this.executor = (JavascriptExecutor) driver;
+	}
+
+	// ******************************
+	// Resoluo
+	// ******************************
+
+	/**
+	 * Retorna o elemento em cache caso a verso do DOM no tenha mudado desde a
+	 * sua localizao; caso contrrio localiza novamente e atualiza a entrada.
+	 * Para seletores avaliados dentro da pgina a conferncia e a nova
+	 * localizao ocorrem no mesmo script (uma nica chamada ao driver).
+	 *
+	 * @param By       - Seletor do elemento.
+	 * @param String[] - Tipo e valor do seletor avaliado na pgina, ou null.
+	 * @return WebElement - Elemento localizado (NoSuchElementException caso no
+	 *         exista).
+	 */
+	WebElement resolve(By element, String[] locator) {
+		String key = key(element);
+		Entry entry = entries.get(key);
+		String using = locator == null ? null : locator[0];
+		String value = locator == null ? null : locator[1];
+		Map<String, Object> state;
+		try {
+			state = state(WebScripts.CACHED_RESOLVE, entry, using, value);
+		} catch (StaleElementReferenceException e) {
+			entry = null;
+			state = state(WebScripts.CACHED_RESOLVE, null, using, value);
+		}
+		if (entry != null && isValid(state)) {
+			log.info("Reutilizando elemento web em cache.");
+			return entry.element;
+		}
+
+		log.info("Realizando localizao do elemento web.");
+		WebElement found;
+		if (locator == null) {
+			found = driver.findElement(element);
+		} else if (state != null && state.get("element") instanceof WebElement) {
+			found = (WebElement) state.get("element");
+		} else {
+			throw new NoSuchElementException("Elemento no encontrado: " + element);
+		}
+		entries.put(key, new Entry(found, state));
+		return found;
+	}
+
+	/**
+	 * Executa o clique (com destaque opcional) no elemento em cache numa nica
+	 * chamada, desde que a verso do DOM no tenha mudado.
+	 *
+	 * @param By      - Seletor do elemento.
+	 * @param boolean - Aplicar destaque.
+	 * @return boolean - true caso o clique tenha sido realizado pelo cache.
+	 */
+	boolean click(By element, boolean highlight) {
+		Entry entry = entries.get(key(element));
+		if (entry == null) {
+			return false;
+		}
+		try {
+			if (isValid(state(WebScripts.CACHED_CLICK, entry, highlight))) {
+				return true;
+			}
+		} catch (StaleElementReferenceException e) {
+			log.info("Elemento em cache obsoleto, localizando novamente.");
+		}
+		evict(element);
+		return false;
+	}
+
+	/**
+	 * Remove a entrada do seletor no contexto atual (ex: referncia obsoleta).
+	 *
+	 * @param By - Seletor do elemento.
+	 */
+	void evict(By element) {
+		entries.remove(key(element));
+	}
+
+	/**
+	 * Remove todas as entradas (ex: aps navegao).
+	 */
+	void clear() {
+		entries.clear();
+	}
+
+	// ******************************
+	// Contexto
+	// ******************************
+
+	/**
+	 * Registra a troca de janela; o contexto volta para o contedo principal.
+	 *
+	 * @param String - Identificador da janela.
+	 */
+	void switchWindow(String handle) {
+		this.window = handle;
+		this.context = handle;
+	}
+
+	/**
+	 * Registra a entrada num frame a partir do contexto atual, identificado pela
+	 * sua posio no documento. Deve ser chamado antes da troca de contexto do
+	 * driver.
+	 *
+	 * @param WebElement - Frame a ser focalizado.
+	 */
+	void switchFrame(WebElement frame) {
+		this.context = context + ">" + executor.executeScript(WebScripts.FRAME_INDEX, frame);
+	}
+
+	/**
+	 * Registra o retorno ao contedo principal da janela atual.
+	 */
+	void switchToDefault() {
+		this.context = window;
+	}
+
+	private String key(By element) {
+		return context + "|" + element;
+	}
+
+	// ******************************
+	// Verso do DOM
+	// ******************************
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> state(String script, Entry entry, Object... args) {
+		Object[] arguments = new Object[3 + args.length];
+		if (entry != null) {
+			arguments[0] = entry.element;
+			arguments[1] = entry.token;
+			arguments[2] = entry.version;
+		}
+		System.arraycopy(args, 0, arguments, 3, args.length);
+		return (Map<String, Object>) executor.executeScript(script, arguments);
+	}
+
+	private static boolean isValid(Map<String, Object> state) {
+		return state != null && Boolean.TRUE.equals(state.get("valid"));
+	}
+
+	/**
+	 * Elemento localizado e a verso do DOM no momento da localizao.
+	 */
+	private static class Entry {
+
+		private final WebElement element;
+		private final Object token;
+		private final Object version;
+
+		private Entry(WebElement element, Map<String, Object> state) {
+			this.element = element;
+			this.token = state == null ? null : state.get("token");
+			this.version = state == null ? null : state.get("version");
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package automation.core.base;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Modos de comparao utilizados na localizao de elementos por texto (clickByText / findByText).
+*/
+
+public enum TextMatch {
+
+	/**
+	 * Texto visvel idntico ao informado (espaos extras desconsiderados).
+	 */
+	EXACT,
+
+	/**
+	 * Texto visvel contm o texto informado.
+	 */
+	CONTAINS,
+
+	/**
+	 * Texto visvel atende  expresso regular informada (sintaxe JS).
+	 */
+	REGEX
+}
@@ -0,0 +1,250 @@
+package automation.core.base;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por registrar quanto tempo cada par seletor/condio levou para ser atendido
+ * e persistir esse histrico entre execues. A partir dos percentis registrados as esperas ajustam o
+ * intervalo de verificao e um timeout reduzido (fail-fast), evitando aguardar o tempo total por
+ * elementos que historicamente nunca aparecem. Periodicamente uma espera em fail-fast utiliza o tempo
+ * total, permitindo que o seletor volte ao comportamento normal quando o elemento passar a aparecer.
+*/
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+
+import automation.core.utils.Config;
+import automation.logging.log4j.Log4JSetup;
+
+public class WaitStatistics {
+
+	private static final int MAX_SAMPLES = 50;
+	private static final int MIN_SAMPLES = 5;
+	private static final long MIN_POLLING_MILLIS = 25;
+	private static final long MAX_POLLING_MILLIS = 500;
+	private static final long DEFAULT_POLLING_MILLIS = 100;
+	private static final int TIMEOUT_FACTOR = 3;
+	private static final int FAIL_FAST_PROBE = 10;
+
+	private static Logger log = Log4JSetup.getLogger(WaitStatistics.class);
+	private static final Map<String, Deque<Long>> samples = new ConcurrentHashMap<String, Deque<Long>>();
+	private static final Map<String, AtomicInteger> failFastWaits = new ConcurrentHashMap<String, AtomicInteger>();
+	private static final AtomicBoolean loaded = new AtomicBoolean();
+
+	// ******************************
+	// Registro
+	// ******************************
+
+	/**
+	 * Verifica se as esperas adaptativas esto ativas (page.wait.adaptive). O
+	 * valor  lido a cada chamada, acompanhando a recarga do setup.properties; o
+	 * histrico  carregado na primeira vez em que as esperas so ativadas.
+	 *
+	 * @return boolean
+	 */
+	public static boolean isEnabled() {
+		boolean enabled = Config.get().isEnabled("page.wait.adaptive");
+		if (enabled && loaded.compareAndSet(false, true)) {
+			load();
+			Runtime.getRuntime().addShutdownHook(new Thread(WaitStatistics::save));
+		}
+		return enabled;
+	}
+
+	/**
+	 * Registra o resultado de uma espera. Apenas as ltimas amostras de cada
+	 * seletor/condio so mantidas. Timeouts de esperas encurtadas pelo fail-fast
+	 * no so registrados, para no prolongar a sequncia de timeouts que o
+	 * ativou.
+	 *
+	 * @param String  - Condio e seletor (ex: visible By.id: login).
+	 * @param long    - Tempo aguardado em ms.
+	 * @param boolean - true caso a condio tenha sido atendida, false em caso de
+	 *                timeout.
+	 * @param long    - Timeout utilizado na espera em ms.
+	 */
+	public static void record(String key, long millis, boolean satisfied, long timeout) {
+		if (!isEnabled()) {
+			return;
+		}
+		Deque<Long> history = samples.computeIfAbsent(key, k -> new ArrayDeque<Long>());
+		if (!satisfied && timeout <= failFastMillis() && recentTimeouts(history(key)) >= MIN_SAMPLES) {
+			return;
+		}
+		synchronized (history) {
+			history.addLast(satisfied ? millis : -Math.max(1, millis));
+			while (history.size() > MAX_SAMPLES) {
+				history.removeFirst();
+			}
+		}
+	}
+
+	// ******************************
+	// Adaptao
+	// ******************************
+
+	/**
+	 * Calcula o timeout da espera a partir do histrico. Seletores cujas ltimas
+	 * esperas terminaram todas em timeout utilizam o timeout reduzido
+	 * (page.wait.failFast, em segundos), exceto a cada dcima espera, que utiliza
+	 * o tempo padro para verificar se o elemento voltou a aparecer; os demais
+	 * utilizam o percentil 95
+	 * multiplicado por uma margem de segurana, nunca abaixo do timeout reduzido
+	 * nem acima do tempo de espera padro.
+	 *
+	 * @param String - Condio e seletor.
+	 * @param long   - Tempo de espera padro em ms.
+	 * @return long - Timeout em ms.
+	 */
+	public static long timeoutMillis(String key, long defaultMillis) {
+		List<Long> history = history(key);
+		if (history.size() < MIN_SAMPLES) {
+			return defaultMillis;
+		}
+
+		long failFast = Math.min(defaultMillis, failFastMillis());
+		if (recentTimeouts(history) >= MIN_SAMPLES) {
+			int waits = failFastWaits.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+			return waits % FAIL_FAST_PROBE == 0 ? defaultMillis : failFast;
+		}
+
+		List<Long> satisfied = satisfied(history);
+		if (satisfied.size() < MIN_SAMPLES) {
+			return defaultMillis;
+		}
+		return Math.min(defaultMillis, Math.max(failFast, percentile(satisfied, 95) * TIMEOUT_FACTOR));
+	}
+
+	/**
+	 * Calcula o intervalo de verificao a partir da mediana do tempo em que a
+	 * condio costuma ser atendida: elementos estveis so verificados com mais
+	 * frequncia.
+	 *
+	 * @param String - Condio e seletor.
+	 * @return long - Intervalo em ms.
+	 */
+	public static long pollingMillis(String key) {
+		List<Long> satisfied = satisfied(history(key));
+		if (satisfied.size() < MIN_SAMPLES) {
+			return DEFAULT_POLLING_MILLIS;
+		}
+		return Math.max(MIN_POLLING_MILLIS, Math.min(MAX_POLLING_MILLIS, percentile(satisfied, 50) / 5));
+	}
+
+	private static long failFastMillis() {
+		return TimeUnit.SECONDS.toMillis(Config.get().getLong("page.wait.failFast", 3));
+	}
+
+	private static List<Long> history(String key) {
+		Deque<Long> history = key != null && isEnabled() ? samples.get(key) : null;
+		if (history == null) {
+			return Collections.emptyList();
+		}
+		synchronized (history) {
+			return new ArrayList<Long>(history);
+		}
+	}
+
+	private static int recentTimeouts(List<Long> history) {
+		int timeouts = 0;
+		for (int i = history.size() - 1; i >= 0 && history.get(i) < 0; i--) {
+			timeouts++;
+		}
+		return timeouts;
+	}
+
+	private static List<Long> satisfied(List<Long> history) {
+		List<Long> satisfied = new ArrayList<Long>();
+		for (Long sample : history) {
+			if (sample >= 0) {
+				satisfied.add(sample);
+			}
+		}
+		Collections.sort(satisfied);
+		return satisfied;
+	}
+
+	private static long percentile(List<Long> sorted, int percentile) {
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+		return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+	}
+
+	// ******************************
+	// Persistncia
+	// ******************************
+
+	private static File file() {
+		String path = Config.get().get("page.wait.stats", "").trim();
+		return new File(path.isEmpty() ? "target" + File.separator + "wait-stats.properties" : path);
+	}
+
+	private static void load() {
+		File file = file();
+		if (!file.isFile()) {
+			return;
+		}
+
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(file)) {
+			properties.load(in);
+			for (String key : properties.stringPropertyNames()) {
+				Deque<Long> history = new ArrayDeque<Long>();
+				for (String sample : properties.getProperty(key).split(",")) {
+					if (!sample.trim().isEmpty()) {
+						history.addLast(Long.parseLong(sample.trim()));
+					}
+				}
+				samples.put(key, history);
+			}
+			log.info("Histrico de esperas carregado [" + samples.size() + " seletores].");
+		} catch (IOException | NumberFormatException e) {
+			log.error("No foi possvel carregar o histrico de esperas.");
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Persiste o histrico de esperas para as prximas execues. Executado
+	 * automaticamente ao final da execuo.
+	 */
+	public static void save() {
+		Properties properties = new Properties();
+		for (Map.Entry<String, Deque<Long>> entry : samples.entrySet()) {
+			StringBuilder value = new StringBuilder();
+			for (Long sample : history(entry.getKey())) {
+				value.append(value.length() == 0 ? "" : ",").append(sample);
+			}
+			properties.setProperty(entry.getKey(), value.toString());
+		}
+
+		File file = file();
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		try (OutputStream out = new FileOutputStream(file)) {
+			properties.store(out, "Histrico de esperas por seletor/condio (ms, negativo = timeout)");
+		} catch (IOException e) {
+			log.error("No foi possvel salvar o histrico de esperas.");
+			e.printStackTrace();
+		}
+	}
+}
@@ -17,38 +17,78 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.apache.log4j.Logger;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.BrowserType;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import automation.core.driver.DevTools;
 import automation.core.driver.DriverManager;
+import automation.core.driver.DriverRegistry;
+import automation.core.utils.Config;
 import automation.core.utils.Utils;
+import automation.core.utils.WorkerContext;
+import automation.data.excel.ExcelObject;
 import automation.logging.log4j.Log4JSetup;
 
 public abstract class WebBasePage {
 
+	private static final long PAGE_QUIET_MILLIS = 500;
+	private static final long ENABLE_TIMEOUT_MILLIS = 5000;
+	private static final List<String> IN_PAGE_LOCATORS = Arrays.asList("id", "name", "className", "tagName",
+			"cssSelector", "xpath", "linkText", "partialLinkText");
+
 	private WebDriver driver;
 	private JavascriptExecutor executor;
 	private TakesScreenshot screenShot;
 	private Actions actions;
 	private WebDriverWait wait;
-	private Logger log = Log4JSetup.getLogger(WebBasePage.class);
+	private boolean registeredDriver;
+	private boolean eagerPageLoad;
+	private boolean xpathInPage = true;
+	private int waitTime;
+	private boolean fastClick;
+	private boolean highlight;
+	private ElementCache elementCache;
+	private static Logger log = Log4JSetup.getLogger(WebBasePage.class);
+	// Timeout de scripts j aplicado em cada sesso, evitando repetir o comando a cada page criada.
+	// Apenas aumenta: as pages compartilham a sesso e uma page no pode encurtar as esperas de outra.
+	private static final int SCRIPT_TIMEOUT_MARGIN = 5;
+	private static final Map<WebDriver, Integer> scriptTimeouts = Collections
+			.synchronizedMap(new WeakHashMap<WebDriver, Integer>());
 
 	/*
 	 * *********************************
@@ -59,11 +99,13 @@ public abstract class WebBasePage {
 	/**
 	 * Construtor <b>padro</b> responsavel por criar uma instncia WebBasePage com
 	 * todos os seus atributos configurados, com base num driver pr-definido no
-	 * arquivo de propriedades (setup.properties).
+	 * arquivo de propriedades (setup.properties). Todas as pages criadas na mesma
+	 * thread compartilham o driver mantido pelo {@link DriverRegistry}.
 	 * 
 	 */
 	public WebBasePage() {
-		setDriver(DriverManager.driverBuilder());
+		setDriver(DriverRegistry.getDriver());
+		this.registeredDriver = true;
 	}
 
 	/**
@@ -94,30 +136,154 @@ public abstract class WebBasePage {
 
 	/**
 	 * Responsavel por realizar os setup de todos os atributos da WebBasePage, desde
-	 * waits, executores java scripts e etc. Por padro com o tempo de espera
-	 * definido em 30 segundos.
+	 * waits, executores java scripts e etc. O tempo de espera  definido em
+	 * page.wait.timeout (padro de 30 segundos).
 	 * 
 	 * @param WebDriver - Driver devidamente criado e configurado.
 	 */
 	public void setDriver(WebDriver driver) {
 		this.driver = driver;
+		if (!scriptTimeouts.containsKey(driver) && DevTools.addScriptOnNewDocument(driver,
+				WebScripts.NET_TRACKER_ON_NEW_DOCUMENT)) {
+			log.info("Instrumentao de rede registrada no incio de cada documento.");
+		}
 		this.executor = (JavascriptExecutor) driver;
 		this.actions = new Actions(driver);
 		this.screenShot = (TakesScreenshot) driver;
-		setWaitTime(30);
+		if (driver instanceof HasCapabilities) {
+			Object strategy = ((HasCapabilities) driver).getCapabilities()
+					.getCapability(CapabilityType.PAGE_LOAD_STRATEGY);
+			this.eagerPageLoad = strategy != null && !"normal".equalsIgnoreCase(strategy.toString());
+			// O IE11 no possui document.evaluate: seletores xpath seguem pelo WebDriverWait
+			this.xpathInPage = !BrowserType.IE
+					.equals(((HasCapabilities) driver).getCapabilities().getBrowserName());
+		}
+		Config config = Config.get();
+		setWaitTime(config.getInt("page.wait.timeout", 30));
+		setFastClick(config.isEnabled("page.click.fast"));
+		this.highlight = config.isEnabled("page.click.highlight");
+		setElementCache(config.isEnabled("page.cache.elements"));
 		log.info("Page est configurada e pronta para uso.");
 	}
 
+	/**
+	 * Responsavel por ativar ou desativar o clique rpido, realizado numa nica
+	 * chamada de script ao invs das validaes individuais.
+	 * 
+	 * @param boolean - true para ativar o clique rpido.
+	 */
+	public void setFastClick(boolean fastClick) {
+		this.fastClick = fastClick;
+	}
+
+	/**
+	 * Responsavel por ativar ou desativar o cache de elementos localizados por
+	 * seletores By. As entradas so invalidadas automaticamente aps navegao ou
+	 * qualquer alterao no DOM da pgina.
+	 * 
+	 * @param boolean - true para ativar o cache de elementos.
+	 */
+	public void setElementCache(boolean enabled) {
+		this.elementCache = enabled ? new ElementCache(driver) : null;
+	}
+
+	boolean isHighlightEnabled() {
+		return highlight;
+	}
+
 	/**
 	 * Responsavel por configurar o tempo de aguarde por objetos web.
 	 * 
 	 * @param int - Tempo em segundos.
 	 */
 	public void setWaitTime(int time) {
+		this.waitTime = time;
 		this.wait = new WebDriverWait(driver, time);
+		raiseScriptTimeout(time + SCRIPT_TIMEOUT_MARGIN);
 		log.info("Ajustando timeout para o limite de  [ " + time + " segundos]");
 	}
 
+	/*
+	 * *********************************
+	 * 
+	 * Operaes em lote
+	 * 
+	 ***********************************/
+	/**
+	 * Responsvel por criar um lote de operaes (type, click, select e esperas)
+	 * executadas com o menor nmero possvel de chamadas ao driver. Exemplo:
+	 * batch().type(campo, "texto").click(botao).waitPresence(resultado).run().
+	 * 
+	 * @return WebBatch - Lote vazio associado a esta page.
+	 */
+	public WebBatch batch() {
+		return new WebBatch(this);
+	}
+
+	/**
+	 * Responsvel por preencher um formulrio inteiro numa nica passagem dentro
+	 * da pgina: campos de texto, combo boxes e checkboxes recebem o valor e os
+	 * eventos input/change adequados. Os campos informados como nativos so
+	 * preenchidos em seguida com eventos reais de teclado (sendKeys).
+	 * 
+	 * @param Map   - Campos e valores, na ordem de preenchimento (ex:
+	 *              LinkedHashMap).
+	 * @param By... - Campos que exigem eventos reais de teclado.
+	 * @return List<WebBatch.Result> - Resultado do preenchimento de cada campo.
+	 */
+	public List<WebBatch.Result> fillForm(Map<By, String> fields, By... nativeFields) {
+		List<By> keys = Arrays.asList(nativeFields);
+		WebBatch form = batch();
+		for (Map.Entry<By, String> field : fields.entrySet()) {
+			if (field.getValue() != null && !keys.contains(field.getKey())) {
+				form.fill(field.getKey(), field.getValue());
+			}
+		}
+		for (Map.Entry<By, String> field : fields.entrySet()) {
+			if (field.getValue() != null && keys.contains(field.getKey())) {
+				form.typeKeys(field.getKey(), field.getValue());
+			}
+		}
+		log.info("Preenchendo formulrio com [" + fields.size() + "] campos.");
+		return form.run();
+	}
+
+	/**
+	 * Responsvel por preencher um formulrio a partir de um objeto espelho de
+	 * planilha Excel. Cada atributo preenchido do objeto  associado ao seletor
+	 * informado para o seu nome; atributos sem seletor utilizam o campo com o
+	 * mesmo atributo name na pgina.
+	 * 
+	 * @param ExcelObject - Objeto com os valores do formulrio.
+	 * @param Map         - Nome do atributo e seletor do campo correspondente.
+	 * @param By...       - Campos que exigem eventos reais de teclado.
+	 * @return List<WebBatch.Result> - Resultado do preenchimento de cada campo.
+	 */
+	public List<WebBatch.Result> fillForm(ExcelObject data, Map<String, By> locators, By... nativeFields) {
+		Map<By, String> fields = new LinkedHashMap<By, String>();
+		Class<?> type = data.getClass();
+		while (type != null && type != ExcelObject.class) {
+			for (Field field : type.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+					continue;
+				}
+				try {
+					field.setAccessible(true);
+					Object value = field.get(data);
+					if (value != null) {
+						By locator = locators == null ? null : locators.get(field.getName());
+						fields.put(locator == null ? By.name(field.getName()) : locator, String.valueOf(value));
+					}
+				} catch (IllegalAccessException e) {
+					log.error("No foi possvel obter o valor do atributo [" + field.getName() + "].");
+					e.printStackTrace();
+				}
+			}
+			type = type.getSuperclass();
+		}
+		return fillForm(fields, nativeFields);
+	}
+
 	/*
 	 * *********************************
 	 * 
@@ -147,6 +313,9 @@ public abstract class WebBasePage {
 	 */
 	private WebElement find(By element) {
 		try {
+			if (elementCache != null) {
+				return elementCache.resolve(element, inPageLocator(element));
+			}
 			log.info("Realizando localizao do elemento web.");
 			return driver.findElement(element);
 		} catch (NoSuchElementException e) {
@@ -155,6 +324,28 @@ public abstract class WebBasePage {
 		}
 	}
 
+	/**
+	 * Responsavel por executar uma ao no elemento localizado pelo seletor By.
+	 * Com o cache de elementos ativo, caso a referncia esteja obsoleta o elemento
+	 *  localizado novamente e a ao  repetida uma nica vez.
+	 * 
+	 * @param By       - Seletor do elemento web.
+	 * @param Function - Ao executada no elemento.
+	 * @return T - Retorno da ao.
+	 */
+	private <T> T withElement(By element, Function<WebElement, T> action) {
+		try {
+			return action.apply(find(element));
+		} catch (StaleElementReferenceException e) {
+			if (elementCache == null) {
+				throw e;
+			}
+			log.info("Referncia obsoleta do elemento web, localizando novamente.");
+			elementCache.evict(element);
+			return action.apply(find(element));
+		}
+	}
+
 	/**
 	 * Responsavel por buscar na pgina Web um conjunto de elementos com base no
 	 * tipo do seletor By.
@@ -200,6 +391,9 @@ public abstract class WebBasePage {
 	 */
 	public void switchWindow(String window) {
 		driver.switchTo().window(window);
+		if (elementCache != null) {
+			elementCache.switchWindow(window);
+		}
 		log.info("Alterando de Janela.");
 	}
 
@@ -209,7 +403,11 @@ public abstract class WebBasePage {
 	 * @param int - Indce da janela desejada (Iniciando a partir do 0).
 	 */
 	public void switchTab(int index) {
-		driver.switchTo().window((String) driver.getWindowHandles().toArray()[index]);
+		String handle = (String) driver.getWindowHandles().toArray()[index];
+		driver.switchTo().window(handle);
+		if (elementCache != null) {
+			elementCache.switchWindow(handle);
+		}
 		log.info("Alterando de Janela com base no indice [" + index + "].");
 	}
 
@@ -218,6 +416,7 @@ public abstract class WebBasePage {
 	 */
 	public void refreshPage() {
 		driver.navigate().refresh();
+		clearElementCache();
 		log.info("Recarregando a pgina.");
 	}
 
@@ -238,9 +437,18 @@ public abstract class WebBasePage {
 
 	/**
 	 * Responsvel por direcionar o driver para o Gerenciador para ser encerrado
-	 * corretamente.
+	 * corretamente. Drivers obtidos pelo {@link DriverRegistry} so liberados uma
+	 * nica vez, mesmo que vrias pages da mesma thread chamem este mtodo.
 	 */
 	public void exitBrowser() {
+		if (registeredDriver) {
+			if (DriverRegistry.isRegistered(getDriver())) {
+				takeScreenshot("Last Run " + Utils.getDate());
+			}
+			DriverRegistry.release(getDriver());
+			return;
+		}
+
 		takeScreenshot("Last Run " + Utils.getDate());
 		DriverManager.finishDriver(getDriver());
 	}
@@ -252,10 +460,12 @@ public abstract class WebBasePage {
 	 * 
 	 ***********************************/
 	public void moveSlider(By element) {
-		WebElement slider = find(element);
-		int sliderWidth = slider.getSize().getWidth();
-		int xCoord = slider.getLocation().getX();
-		actions.moveToElement(slider).click().dragAndDropBy(slider, xCoord + sliderWidth, 0).build().perform();
+		withElement(element, slider -> {
+			int sliderWidth = slider.getSize().getWidth();
+			int xCoord = slider.getLocation().getX();
+			actions.moveToElement(slider).click().dragAndDropBy(slider, xCoord + sliderWidth, 0).build().perform();
+			return slider;
+		});
 		log.info("Ajustando slider.");
 	}
 
@@ -289,7 +499,7 @@ public abstract class WebBasePage {
 	 */
 	public String getCssValue(By element, String elementCss) {
 		log.info("Obtendo valor css do elemento web.");
-		return find(element).getCssValue(elementCss);
+		return withElement(element, e -> e.getCssValue(elementCss));
 	}
 
 	/**
@@ -301,7 +511,7 @@ public abstract class WebBasePage {
 	 * @return String - O valor do atributo value selecionado.
 	 */
 	public String getAttributeValue(By element) {
-		return getAttributeValue(find(element));
+		return withElement(element, e -> getAttributeValue(e));
 	}
 
 	/**
@@ -339,7 +549,10 @@ public abstract class WebBasePage {
 	 * @param By - O seletor do tipo By do elemento web desejado.
 	 */
 	public void elementExists(By element) {
-		elementExists(find(element));
+		withElement(element, e -> {
+			elementExists(e);
+			return e;
+		});
 	}
 
 	/**
@@ -349,8 +562,7 @@ public abstract class WebBasePage {
 	 * @return boolean;
 	 */
 	public boolean elementIsEnable(By element) {
-		WebElement e = find(element);
-		return elementIsEnable(e);
+		return withElement(element, e -> elementIsEnable(e));
 	}
 
 	/**
@@ -387,7 +599,10 @@ public abstract class WebBasePage {
 	 * @param String - O contedo a ser escrito.
 	 */
 	public void type(By element, String text) {
-		type(find(element), text);
+		withElement(element, e -> {
+			type(e, text);
+			return e;
+		});
 	}
 
 	/**
@@ -427,17 +642,46 @@ public abstract class WebBasePage {
 	}
 
 	/**
-	 * Responsvel por remover contedos em elementos web utilizando backspace.
+	 * Responsvel por remover contedos em elementos web utilizando o teclado.
+	 * O campo  limpo selecionando todo o contedo e apagando-o numa nica
+	 * chamada; caso o contedo permanea, o valor  zerado via script com os
+	 * eventos input/change. Apenas campos com tratamento de teclas customizado
+	 * que resistam a ambas as estratgias so apagados caractere a caractere.
 	 * 
 	 * @param WebElement - O elemento web desejado.
 	 */
 	public void clearValuesWithBackSpace(WebElement elemento) {
 		log.info("Realizando limpeza dos valores de um elemento web");
+		elemento.sendKeys(Keys.chord(selectAllKey(), "a"), Keys.BACK_SPACE);
+		if (isEmptyValue(elemento.getAttribute("value"))) {
+			return;
+		}
+
+		if (isEmptyValue((String) executor.executeScript(WebScripts.CLEAR_FIELD, elemento))) {
+			log.info("Campo limpo via script.");
+			return;
+		}
+
+		log.info("Campo com tratamento de teclas customizado, apagando caractere a caractere.");
 		while (getAttributeValue(elemento).length() > 0) {
 			elemento.sendKeys(Keys.BACK_SPACE);
 		}
 	}
 
+	private Keys selectAllKey() {
+		if (driver instanceof HasCapabilities) {
+			Platform platform = ((HasCapabilities) driver).getCapabilities().getPlatform();
+			if (platform != null && platform.is(Platform.MAC)) {
+				return Keys.COMMAND;
+			}
+		}
+		return Keys.CONTROL;
+	}
+
+	private static boolean isEmptyValue(String value) {
+		return value == null || value.isEmpty();
+	}
+
 	/**
 	 * Responsvel por obter o contedo de texto em elementos web.
 	 * 
@@ -456,7 +700,7 @@ public abstract class WebBasePage {
 	 * @return String - Texto do elemento.
 	 */
 	public String getText(By element) {
-		return getText(find(element));
+		return withElement(element, this::getText);
 	}
 
 	/**
@@ -496,11 +740,28 @@ public abstract class WebBasePage {
 
 	/**
 	 * Responsvel por clicar em elementos aps validar se o elemento est
-	 * devidamente habilitado.
+	 * devidamente habilitado. Com o clique rpido ativo (page.click.fast), a
+	 * validao, rolagem, destaque e clique so feitos numa nica chamada de
+	 * script; o clique nativo  utilizado apenas quando o elemento est encoberto
+	 * por outro componente.
 	 * 
 	 * @param WebElement - O elemento web desejado.
 	 */
 	public WebElement click(WebElement element) {
+		if (fastClick) {
+			String status = String.valueOf(executor.executeScript(WebScripts.FAST_CLICK, element, highlight));
+			if ("clicked".equals(status)) {
+				log.info("Clique rpido realizado no componente web.");
+				return element;
+			}
+			if ("obscured".equals(status)) {
+				log.info("Componente web encoberto, realizando clique nativo.");
+				element.click();
+				return element;
+			}
+			log.info("Componente web no est pronto para o clique rpido [" + status + "].");
+		}
+
 		elementIsEnable(element);
 		scrollToElement(element);
 		waitToBeClickable(element);
@@ -528,9 +789,11 @@ public abstract class WebBasePage {
 	 * @param By - O seletor do tipo By do elemento web desejado
 	 */
 	public void submit(By element) {
-		WebElement e = find(element);
-		e.submit();
-		log.info("Realizando um submit no elemento [" + getText(e) + "].");
+		WebElement e = withElement(element, found -> {
+			found.submit();
+			return found;
+		});
+		Log4JSetup.info(log, () -> "Realizando um submit no elemento [" + e.getText() + "].");
 	}
 
 	/*
@@ -546,7 +809,11 @@ public abstract class WebBasePage {
 	 */
 	public void openUrl(String url) {
 		driver.get(url);
+		clearElementCache();
 		log.info("Navegando para URL [" + url + "]");
+		if (eagerPageLoad) {
+			waitPageReady();
+		}
 	}
 
 	/**
@@ -556,7 +823,45 @@ public abstract class WebBasePage {
 	 */
 	public void navigateTo(String url) {
 		driver.navigate().to(url);
+		clearElementCache();
 		log.info("Navegando para URL [" + url + "]");
+		if (eagerPageLoad) {
+			waitPageReady();
+		}
+	}
+
+	private void clearElementCache() {
+		if (elementCache != null) {
+			elementCache.clear();
+		}
+	}
+
+	/**
+	 * Responsvel por aguardar a pgina estar pronta para interao: DOM
+	 * interativo e sem requisies da prpria aplicao (mesma origem) em
+	 * andamento. No aguarda recursos de terceiros como anncios e iframes.
+	 * Chamado automaticamente aps a navegao quando a estratgia de carregamento
+	 * do browser  eager ou none.
+	 * 
+	 * @return boolean - true caso a pgina fique pronta dentro do tempo de espera.
+	 */
+	public boolean waitPageReady() {
+		try {
+			boolean ready = Boolean.TRUE.equals(executor.executeAsyncScript(WebScripts.PAGE_READY,
+					PAGE_QUIET_MILLIS, inPageMillis(waitMillis())));
+			if (ready) {
+				log.info("Pgina pronta para interao.");
+			} else {
+				log.error("Tempo de espera para a pgina ficar pronta foi excedido.");
+			}
+			return ready;
+		} catch (ScriptTimeoutException e) {
+			log.error("Tempo de espera para a pgina ficar pronta foi excedido.");
+			return false;
+		} catch (Exception e) {
+			log.error("Falha ao verificar se a pgina est pronta para interao.");
+			return false;
+		}
 	}
 
 	/**
@@ -625,8 +930,7 @@ public abstract class WebBasePage {
 	 * @return Integer - Tamanho de um combobox.
 	 */
 	public Integer getComboBoxOptionsSize(By comboBox) {
-		Select cb = findComboBox(comboBox);
-		List<WebElement> options = cb.getOptions();
+		List<Map<String, Object>> options = getComboOptions(comboBox);
 		log.info("Obtendo tamanho de opes existentes no combo box.");
 		return options.size();
 	}
@@ -639,10 +943,9 @@ public abstract class WebBasePage {
 	 */
 	public void checkIfSelectHasOption(By element, String text) {
 		boolean result = false;
-		Select comboBox = findComboBox(element);
-		List<WebElement> options = comboBox.getOptions();
-		for (WebElement option : options) {
-			if (option.getText().equals(text)) {
+		List<Map<String, Object>> options = getComboOptions(element);
+		for (Map<String, Object> option : options) {
+			if (text.equals(option.get("text"))) {
 				result = true;
 				break;
 			}
@@ -671,13 +974,12 @@ public abstract class WebBasePage {
 	 */
 	public List<String> getComboTexts(By element) {
 		List<String> listOfTexts = new ArrayList<String>();
-		Select combo = findComboBox(element);
-		List<WebElement> options = combo.getOptions();
+		List<Map<String, Object>> options = getComboOptions(element);
 		log.info("Obtendo as opes dos combos de Textos.");
-		for (WebElement e : options) {
-			log.info("Opo: [" + e.getText() + "].");
-			listOfTexts.add(e.getText());
+		for (Map<String, Object> option : options) {
+			listOfTexts.add(String.valueOf(option.get("text")));
 		}
+		log.info("Opes: " + listOfTexts + ".");
 		return listOfTexts;
 	}
 
@@ -688,18 +990,33 @@ public abstract class WebBasePage {
 	 * @return List<String> - Conjunto dos textos existentes no combobox.
 	 */
 	public List<String> getAllSelectedOptions(By element) {
-		Select combo = findComboBox(element);
-		List<WebElement> allSelectedOptions = combo.getAllSelectedOptions();
+		List<Map<String, Object>> options = getComboOptions(element);
 		List<String> values = new ArrayList<String>();
-		for (WebElement options : allSelectedOptions) {
-			log.info("Opo: [" + options.getText() + "].");
-			values.add(options.getText());
+		for (Map<String, Object> option : options) {
+			if (Boolean.TRUE.equals(option.get("selected"))) {
+				values.add(String.valueOf(option.get("text")));
+			}
 		}
-		log.info("Obtendo todas as opes selecionadas.");
+		log.info("Obtendo todas as opes selecionadas: " + values + ".");
 		return values;
 
 	}
 
+	/**
+	 * Responsvel por obter, numa nica chamada de script, o texto, o valor e a
+	 * seleo de todas as opes de um combobox.
+	 * 
+	 * @param By - O seletor do tipo By do combobox desejado.
+	 * @return List<Map<String, Object>> - Opes com as chaves text, value e
+	 *         selected.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Map<String, Object>> getComboOptions(By element) {
+		log.info("Obtendo as opes do combo box.");
+		Object options = withElement(element, comboBox -> executor.executeScript(WebScripts.SELECT_OPTIONS, comboBox));
+		return options == null ? new ArrayList<Map<String, Object>>() : (List<Map<String, Object>>) options;
+	}
+
 	/*
 	 * ***********************************
 	 * 
@@ -722,6 +1039,9 @@ public abstract class WebBasePage {
 	 * @param WebElement - O elemento web frame desejado aps localizado.
 	 */
 	private void Frame(WebElement element) {
+		if (elementCache != null) {
+			elementCache.switchFrame(element);
+		}
 		driver.switchTo().frame(element);
 		log.info("Focalizando num elemento do tipo iFrame.");
 	}
@@ -733,6 +1053,9 @@ public abstract class WebBasePage {
 	 */
 	public void FrameOut() {
 		driver.switchTo().defaultContent();
+		if (elementCache != null) {
+			elementCache.switchToDefault();
+		}
 		log.info("Desfocalizando do contedo do iFrame Atual.");
 	}
 
@@ -786,6 +1109,124 @@ public abstract class WebBasePage {
 	 * Esperas
 	 * 
 	 ***********************************/
+	/**
+	 * Responsvel por aguardar uma condio dentro da pgina numa nica chamada de
+	 * script assncrono. A condio  reavaliada a cada mutao do DOM, retornando
+	 * assim que for atendida.
+	 * 
+	 * @param By         - Seletor do elemento ou null quando o elemento for
+	 *                   informado.
+	 * @param WebElement - Elemento j localizado ou null.
+	 * @param String     - Condio (present, visible, clickable, enabled, text ou
+	 *                   invisible).
+	 * @param String     - Texto esperado (condio text).
+	 * @param long       - Tempo mximo de espera em ms.
+	 * @return Object - Elemento que atendeu  condio (ou true para invisible),
+	 *         TimeoutException caso o tempo seja excedido.
+	 */
+	private Object waitInPage(By locator, WebElement element, String condition, String text, long timeout) {
+		String[] using = locator == null ? new String[2] : inPageLocator(locator);
+		String key = locator == null ? null : condition + " " + locator;
+		long limit = inPageMillis(key == null ? timeout : WaitStatistics.timeoutMillis(key, timeout));
+		long start = System.currentTimeMillis();
+		Object result;
+		try {
+			result = executor.executeAsyncScript(WebScripts.WAIT_FOR, using[0], using[1], element, condition, text,
+					limit, WaitStatistics.pollingMillis(key));
+		} catch (ScriptTimeoutException e) {
+			result = null;
+		}
+		if (key != null) {
+			WaitStatistics.record(key, System.currentTimeMillis() - start, result != null, limit);
+		}
+		if (result == null) {
+			throw new TimeoutException("Condio [" + condition + "] no atendida em " + limit + " ms.");
+		}
+		return result;
+	}
+
+	/**
+	 * Responsvel por aguardar uma condio atravs do WebDriverWait, utilizado
+	 * para seletores que no podem ser avaliados dentro da pgina. Com as esperas
+	 * adaptativas ativas (page.wait.adaptive) o timeout e o intervalo de
+	 * verificao so ajustados pelo histrico do seletor.
+	 * 
+	 * @param String            - Condio e seletor aguardados.
+	 * @param ExpectedCondition - Condio do WebDriverWait.
+	 * @return T - Retorno da condio, TimeoutException caso o tempo seja
+	 *         excedido.
+	 */
+	private <T> T waitUntil(String key, ExpectedCondition<T> condition) {
+		if (!WaitStatistics.isEnabled()) {
+			return wait.until(condition);
+		}
+
+		long limit = WaitStatistics.timeoutMillis(key, waitMillis());
+		long start = System.currentTimeMillis();
+		try {
+			T result = new WebDriverWait(driver, waitTime).withTimeout(Duration.ofMillis(limit))
+					.pollingEvery(Duration.ofMillis(WaitStatistics.pollingMillis(key))).until(condition);
+			WaitStatistics.record(key, System.currentTimeMillis() - start, true, limit);
+			return result;
+		} catch (TimeoutException e) {
+			WaitStatistics.record(key, System.currentTimeMillis() - start, false, limit);
+			throw e;
+		}
+	}
+
+	/**
+	 * Aplica o timeout de scripts na sesso apenas quando maior que o atual,
+	 * mantendo o maior valor solicitado pelas pages que compartilham o driver.
+	 */
+	private void raiseScriptTimeout(int seconds) {
+		synchronized (scriptTimeouts) {
+			Integer current = scriptTimeouts.get(driver);
+			if (current == null || seconds > current) {
+				driver.manage().timeouts().setScriptTimeout(seconds, TimeUnit.SECONDS);
+				scriptTimeouts.put(driver, seconds);
+			}
+		}
+	}
+
+	/**
+	 * Limita o tempo de uma espera executada dentro da pgina ao timeout de
+	 * scripts da sesso (descontada a margem), para que o script termine antes de
+	 * ser interrompido pelo driver.
+	 * 
+	 * @param long - Tempo de espera desejado em ms.
+	 * @return long - Tempo de espera em ms.
+	 */
+	long inPageMillis(long timeout) {
+		Integer session = scriptTimeouts.get(driver);
+		if (session == null) {
+			return timeout;
+		}
+		return Math.min(timeout, TimeUnit.SECONDS.toMillis(session - SCRIPT_TIMEOUT_MARGIN));
+	}
+
+	long waitMillis() {
+		return TimeUnit.SECONDS.toMillis(waitTime);
+	}
+
+	/**
+	 * Converte o seletor By para o tipo e valor avaliados dentro da pgina.
+	 * 
+	 * @param By - Seletor do elemento.
+	 * @return String[] - Tipo e valor do seletor, ou null caso o seletor no possa
+	 *         ser avaliado na pgina (ex: seletores compostos ou xpath no IE).
+	 */
+	String[] inPageLocator(By element) {
+		String locator = element.toString();
+		int separator = locator.indexOf(": ");
+		if (locator.startsWith("By.") && separator > 0) {
+			String using = locator.substring(3, separator);
+			if (IN_PAGE_LOCATORS.contains(using) && (xpathInPage || !"xpath".equals(using))) {
+				return new String[] { using, locator.substring(separator + 2) };
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Responsvel por aguardar a presena de um elemento na pgina web, porm no
 	 * significa que o elemento esteja vsivel na tela.
@@ -795,7 +1236,10 @@ public abstract class WebBasePage {
 	 */
 	public WebElement waitPresenceOfElement(By element) {
 		try {
-			return wait.until(ExpectedConditions.presenceOfElementLocated(element));
+			if (inPageLocator(element) != null) {
+				return (WebElement) waitInPage(element, null, "present", null, waitMillis());
+			}
+			return waitUntil("present " + element, ExpectedConditions.presenceOfElementLocated(element));
 		} catch (TimeoutException e) {
 			log.error("Tempo de espera para detectar a presena do elemento foi excedido");
 			return null;
@@ -812,7 +1256,7 @@ public abstract class WebBasePage {
 	 */
 	public Boolean waitTextToBePresent(WebElement element, String text) {
 		try {
-			return wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+			return waitInPage(null, element, "text", text, waitMillis()) != null;
 		} catch (TimeoutException e) {
 			log.error("Tempo de espera para detectar a presena do texto [" + text + "] foi excedido.");
 			return null;
@@ -829,7 +1273,7 @@ public abstract class WebBasePage {
 	public WebElement waitToBeClickable(WebElement element) {
 		try {
 			log.info("Aguardando elemento habilitar para receber cliques.");
-			return wait.until(ExpectedConditions.elementToBeClickable(element));
+			return (WebElement) waitInPage(null, element, "clickable", null, waitMillis());
 		} catch (TimeoutException e) {
 			log.error("Tempo de espera para clicar no elemento foi excedido.");
 			return null;
@@ -842,19 +1286,12 @@ public abstract class WebBasePage {
 	 * @param WebElement - O elemento desejado.
 	 */
 	public void waitElementToBeEnable(WebElement element) {
-		int timeout = 0;
-		while (timeout < 5000) {
-			try {
-				log.info("Aguardando elemento habilitar...");
-				Thread.sleep(250);
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
-			timeout += 250;
-			if (element.isEnabled()) {
-				log.info("Elemento est habilitado.");
-				break;
-			}
+		try {
+			log.info("Aguardando elemento habilitar...");
+			waitInPage(null, element, "enabled", null, ENABLE_TIMEOUT_MILLIS);
+			log.info("Elemento est habilitado.");
+		} catch (TimeoutException e) {
+			log.error("Tempo de espera para o elemento habilitar foi excedido.");
 		}
 	}
 
@@ -894,7 +1331,11 @@ public abstract class WebBasePage {
 	 */
 	public void waitInvisibilityOf(By element) {
 		try {
-			wait.until(ExpectedConditions.invisibilityOf(find(element)));
+			if (inPageLocator(element) != null) {
+				waitInPage(element, null, "invisible", null, waitMillis());
+			} else {
+				waitUntil("invisible " + element, ExpectedConditions.invisibilityOf(find(element)));
+			}
 		} catch (TimeoutException e) {
 			log.error("Tempo de espera para o elemento desaparecer foi excedido.");
 			e.printStackTrace();
@@ -910,7 +1351,10 @@ public abstract class WebBasePage {
 	 */
 	public WebElement waitVisibilityOfElement(By elemento) {
 		try {
-			return wait.until(ExpectedConditions.visibilityOf(find(elemento)));
+			if (inPageLocator(elemento) != null) {
+				return (WebElement) waitInPage(elemento, null, "visible", null, waitMillis());
+			}
+			return waitUntil("visible " + elemento, ExpectedConditions.visibilityOf(find(elemento)));
 		} catch (TimeoutException e) {
 			log.error("Tempo de espera para o elemento estar visvel foi excedido.");
 			return null;
@@ -926,7 +1370,7 @@ public abstract class WebBasePage {
 	 */
 	public WebElement waitVisibilityOfElement(WebElement elemento) {
 		try {
-			return wait.until(ExpectedConditions.visibilityOf(elemento));
+			return (WebElement) waitInPage(null, elemento, "visible", null, waitMillis());
 		} catch (TimeoutException e) {
 			log.error("Tempo de espera para o elemento estar visvel foi excedido.");
 			return null;
@@ -945,11 +1389,17 @@ public abstract class WebBasePage {
 	 * @param element - O seletor do tipo By do elemento desejado
 	 */
 	public void click(By element) {
+		if (elementCache != null && elementCache.click(element, highlight)) {
+			log.info("Clicando num componente em cache usando script JS.");
+			return;
+		}
 
 		try {
-			WebElement e = find(element);
-			borderStyle(e);
-			executor.executeScript("arguments[0].click();", e);
+			withElement(element, e -> {
+				borderStyle(e);
+				executor.executeScript("arguments[0].click();", e);
+				return e;
+			});
 			log.info("Clicando num componente usando script JS.");
 		} catch (NoSuchElementException e) {
 			log.error("Falha ao tentar clicar usando script JS.");
@@ -958,26 +1408,15 @@ public abstract class WebBasePage {
 
 	/**
 	 * Resposnsvel por realizar um clique num objeto web, utilizando como base um
-	 * texto, atravs de um scripts Js.
+	 * texto, atravs de um scripts Js. A comparao dos textos  feita dentro da
+	 * pgina numa nica chamada.
 	 * 
 	 * @param list - Lista de Web Elementos que potencialmente possuem o texto alvo.
 	 * @param text - Texto que serve como parametro para identificao do elemento
 	 *             que ser clicado.
 	 */
 	public void clickByText(List<WebElement> list, String text) {
-		try {
-			for (WebElement child : list) {
-				scrollToElement(child);
-				if (child.getText().contains(text)) {
-					borderStyle(child);
-					child.click();
-					break;
-				}
-			}
-		} catch (NoSuchElementException e) {
-			log.error("Falha ao tentar clicar por Texto no elemento [" + text + "].");
-		}
-		log.info("Clicando num componente da pgina que contm o texto [" + text + "].");
+		clickElementByText(findByText(list, null, text, TextMatch.CONTAINS), text);
 	}
 
 	/**
@@ -994,9 +1433,21 @@ public abstract class WebBasePage {
 	 *                    clique ser executado.
 	 */
 	public void clickByText(By element, String ElementTag, String text) {
-		WebElement e = find(element);
-		List<WebElement> listOfChildElements = e.findElements(By.tagName(ElementTag));
-		clickByText(listOfChildElements, text);
+		clickByText(element, ElementTag, text, TextMatch.CONTAINS);
+	}
+
+	/**
+	 * Responsvel por realizar um clique num objeto web dentro de um elemento pai,
+	 * utilizando como base um texto e o modo de comparao informado.
+	 * 
+	 * @param elementoPai - Componente Web que armazena os possveis componentes que
+	 *                    contenham o texto especificado.
+	 * @param ElementTag  - Tag (ou seletor CSS) dos elementos filhos candidatos.
+	 * @param text        - Texto ou expresso regular (sintaxe JS) procurado.
+	 * @param TextMatch   - Modo de comparao (EXACT, CONTAINS ou REGEX).
+	 */
+	public void clickByText(By element, String ElementTag, String text, TextMatch mode) {
+		clickElementByText(findByText(element, ElementTag, text, mode), text);
 	}
 
 	/**
@@ -1009,8 +1460,69 @@ public abstract class WebBasePage {
 	 *                   clique ser executado.
 	 */
 	public void clickByText(String ElementTag, String text) {
-		List<WebElement> listOfChildElements = findElements(By.tagName(ElementTag));
-		clickByText(listOfChildElements, text);
+		clickByText(ElementTag, text, TextMatch.CONTAINS);
+	}
+
+	/**
+	 * Responsvel por realizar um clique num objeto web da pgina, utilizando como
+	 * base um texto e o modo de comparao informado.
+	 * 
+	 * @param ElementTag - Tag (ou seletor CSS) dos elementos candidatos.
+	 * @param text       - Texto ou expresso regular (sintaxe JS) procurado.
+	 * @param TextMatch  - Modo de comparao (EXACT, CONTAINS ou REGEX).
+	 */
+	public void clickByText(String ElementTag, String text, TextMatch mode) {
+		clickElementByText(findByText(ElementTag, text, mode), text);
+	}
+
+	/**
+	 * Responsvel por localizar na pgina o primeiro elemento visvel com a tag
+	 * informada cujo texto atende ao modo de comparao. Toda a busca  feita
+	 * dentro da pgina numa nica chamada.
+	 * 
+	 * @param ElementTag - Tag (ou seletor CSS) dos elementos candidatos.
+	 * @param text       - Texto ou expresso regular (sintaxe JS) procurado.
+	 * @param TextMatch  - Modo de comparao (EXACT, CONTAINS ou REGEX).
+	 * @return WebElement - Elemento encontrado ou null.
+	 */
+	public WebElement findByText(String ElementTag, String text, TextMatch mode) {
+		return findByText((Object) null, ElementTag, text, mode);
+	}
+
+	/**
+	 * Responsvel por localizar, dentro de um elemento pai, o primeiro elemento
+	 * visvel com a tag informada cujo texto atende ao modo de comparao.
+	 * 
+	 * @param elementoPai - Componente Web que delimita a busca.
+	 * @param ElementTag  - Tag (ou seletor CSS) dos elementos candidatos.
+	 * @param text        - Texto ou expresso regular (sintaxe JS) procurado.
+	 * @param TextMatch   - Modo de comparao (EXACT, CONTAINS ou REGEX).
+	 * @return WebElement - Elemento encontrado ou null.
+	 */
+	public WebElement findByText(By element, String ElementTag, String text, TextMatch mode) {
+		WebElement parent = find(element);
+		return parent == null ? null : findByText(parent, ElementTag, text, mode);
+	}
+
+	private WebElement findByText(Object scope, String ElementTag, String text, TextMatch mode) {
+		try {
+			log.info("Localizando componente da pgina pelo texto [" + text + "] (" + mode + ").");
+			return (WebElement) executor.executeScript(WebScripts.FIND_BY_TEXT, scope, ElementTag, text,
+					mode.name(), highlight);
+		} catch (WebDriverException e) {
+			log.error("Falha ao localizar por Texto o elemento [" + text + "].");
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private void clickElementByText(WebElement element, String text) {
+		if (element == null) {
+			log.error("Falha ao tentar clicar por Texto no elemento [" + text + "].");
+			return;
+		}
+		element.click();
+		log.info("Clicando num componente da pgina que contm o texto [" + text + "].");
 	}
 
 	/**
@@ -1067,7 +1579,10 @@ public abstract class WebBasePage {
 	 * @param element - O seletor do tipo By do componente web desejado.
 	 */
 	public void scrollToElement(By element) {
-		scrollToElement(find(element));
+		withElement(element, e -> {
+			scrollToElement(e);
+			return e;
+		});
 	}
 
 	/**
@@ -1079,7 +1594,7 @@ public abstract class WebBasePage {
 	public void scrollToElement(WebElement element) {
 		try {
 			executor.executeScript("arguments[0].scrollIntoView(true);", element);
-			log.info("Scroll at o componente [" + element.getText() + "].");
+			Log4JSetup.info(log, () -> "Scroll at o componente [" + element.getText() + "].");
 		} catch (Exception e) {
 			log.error("Falha ao rolar at o elemento solicitado.");
 			e.printStackTrace();
@@ -1094,8 +1609,7 @@ public abstract class WebBasePage {
 	 * @param text    - Script JS que ser executado naquele componente Web.
 	 */
 	public void typeScript(By element, String text) {
-		WebElement e = find(element);
-		executor.executeScript("arguments[0].value=" + text + ";", e);
+		withElement(element, e -> executor.executeScript("arguments[0].value=" + text + ";", e));
 		log.info("Escrevendo no component o texto [" + text + "].");
 	}
 
@@ -1112,16 +1626,68 @@ public abstract class WebBasePage {
 
 	/**
 	 * Responsvel por executar um script Js onde a tela web desce at o final da
-	 * pgina.
+	 * pgina, aguardando apenas at que a altura da pgina e as requisies da
+	 * aplicao se estabilizem (contedo carregado sob demanda).
 	 */
 	public void scrollPageDown() {
+		Map<String, Object> result = scrollUntilStable(null, 0, 1);
+		if (result != null) {
+			log.info("Scroll page down... [" + result.get("status") + "]");
+		}
+	}
+
+	/**
+	 * Responsvel por rolar a pgina (contedo carregado sob demanda) at que o
+	 * elemento desejado aparea, o final do contedo seja atingido ou o limite de
+	 * rolagens acabe.
+	 * 
+	 * @param By  - O seletor do tipo By do elemento desejado.
+	 * @param int - Quantidade mxima de rolagens.
+	 * @return boolean - true caso o elemento tenha sido encontrado.
+	 */
+	public boolean scrollUntilPresent(By element, int maxScrolls) {
+		return scrollUntilCount(element, 1, maxScrolls);
+	}
+
+	/**
+	 * Responsvel por rolar a pgina (contedo carregado sob demanda) at que a
+	 * quantidade mnima de elementos esteja presente, o final do contedo seja
+	 * atingido ou o limite de rolagens acabe.
+	 * 
+	 * @param By  - O seletor do tipo By dos elementos desejados (ex: itens da
+	 *            lista).
+	 * @param int - Quantidade mnima de elementos.
+	 * @param int - Quantidade mxima de rolagens.
+	 * @return boolean - true caso a quantidade tenha sido atingida.
+	 */
+	public boolean scrollUntilCount(By element, int count, int maxScrolls) {
+		if (inPageLocator(element) == null) {
+			for (int i = 0; i < maxScrolls && driver.findElements(element).size() < count; i++) {
+				scrollPageDown();
+			}
+			return driver.findElements(element).size() >= count;
+		}
+
+		Map<String, Object> result = scrollUntilStable(element, count, maxScrolls);
+		boolean found = result != null && "found".equals(result.get("status"));
+		if (found) {
+			log.info("Elementos encontrados aps [" + result.get("scrolls") + "] rolagens.");
+		} else {
+			log.error("Quantidade de elementos no atingida aps a rolagem da pgina.");
+		}
+		return found;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> scrollUntilStable(By element, int count, int maxScrolls) {
+		String[] using = element == null ? new String[2] : inPageLocator(element);
 		try {
-			executor.executeScript("window.scrollTo(0,document.body.scrollHeight)");
-			Thread.sleep(2000);
-			log.info("Scroll page down...");
+			return (Map<String, Object>) executor.executeAsyncScript(WebScripts.SCROLL_UNTIL_STABLE,
+					PAGE_QUIET_MILLIS, inPageMillis(waitMillis()), maxScrolls, using[0], using[1], count);
 		} catch (Exception e) {
 			log.error("Falha ao tentar Scrollar a pgina.");
 			e.printStackTrace();
+			return null;
 		}
 	}
 
@@ -1140,6 +1706,10 @@ public abstract class WebBasePage {
 			screenshotName = String.format("%s.png", screenshotName);
 		}
 
+		if (WorkerContext.isParallel()) {
+			screenshotName = String.format("%s_%s", WorkerContext.name(), screenshotName);
+		}
+
 		String screenshotPath = String.format("%s./%s", Utils.getProp("file.screenshot"), screenshotName);
 
 		try {
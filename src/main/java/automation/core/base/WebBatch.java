@@ -0,0 +1,331 @@
+package automation.core.base;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Construtor fluente de lotes de operaes (type, click, select e esperas) da WebBasePage.
+ * Operaes consecutivas so enviadas num nico script; o lote  dividido apenas aps cliques (que podem
+ * navegar) e esperas, ou quando a operao precisa ser executada pelo driver (ex: teclas reais).
+*/
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import automation.logging.log4j.Log4JSetup;
+
+public class WebBatch {
+
+	private static Logger log = Log4JSetup.getLogger(WebBatch.class);
+	private final WebBasePage page;
+	private final List<Operation> operations = new ArrayList<Operation>();
+
+	WebBatch(WebBasePage page) {
+		this.page = page;
+	}
+
+	// ******************************
+	// Operaes
+	// ******************************
+
+	/**
+	 * Escreve o contedo no elemento, alterando o valor e disparando os eventos
+	 * input e change.
+	 *
+	 * @param By     - Seletor do elemento.
+	 * @param String - Contedo a ser escrito.
+	 * @return WebBatch - O prprio lote.
+	 */
+	public WebBatch type(By element, String text) {
+		return add("type", element, text);
+	}
+
+	/**
+	 * Preenche o campo conforme o seu tipo: combo box (valor, texto ou ndice),
+	 * checkbox/radio (true, 1, sim, s, x, on ou yes marcam o campo) ou campos de
+	 * texto, disparando os eventos input e change.
+	 *
+	 * @param By     - Seletor do campo.
+	 * @param String - Valor do campo.
+	 * @return WebBatch - O prprio lote.
+	 */
+	public WebBatch fill(By element, String value) {
+		return add("fill", element, value);
+	}
+
+	/**
+	 * Escreve o contedo no elemento atravs de eventos reais de teclado
+	 * (sendKeys), para campos com tratamento de teclas customizado.
+	 *
+	 * @param By     - Seletor do elemento.
+	 * @param String - Contedo a ser escrito.
+	 * @return WebBatch - O prprio lote.
+	 */
+	public WebBatch typeKeys(By element, String text) {
+		return add("keys", element, text);
+	}
+
+	/**
+	 * Clica no elemento.
+	 *
+	 * @param By - Seletor do elemento.
+	 * @return WebBatch - O prprio lote.
+	 */
+	public WebBatch click(By element) {
+		return add("click", element, null);
+	}
+
+	/**
+	 * Seleciona a opo de um combo box pelo valor, texto visvel ou ndice.
+	 *
+	 * @param By     - Seletor do combo box.
+	 * @param String - Valor, texto ou ndice da opo.
+	 * @return WebBatch - O prprio lote.
+	 */
+	public WebBatch select(By element, String value) {
+		return add("select", element, value);
+	}
+
+	/**
+	 * Aguarda a presena do elemento na pgina.
+	 *
+	 * @param By - Seletor do elemento.
+	 * @return WebBatch - O prprio lote.
+	 */
+	public WebBatch waitPresence(By element) {
+		return add("present", element, null);
+	}
+
+	/**
+	 * Aguarda o elemento ficar visvel.
+	 *
+	 * @param By - Seletor do elemento.
+	 * @return WebBatch - O prprio lote.
+	 */
+	public WebBatch waitVisibility(By element) {
+		return add("visible", element, null);
+	}
+
+	private WebBatch add(String action, By element, String text) {
+		operations.add(new Operation(action, element, text, page.inPageLocator(element)));
+		return this;
+	}
+
+	// ******************************
+	// Execuo
+	// ******************************
+
+	/**
+	 * Executa as operaes na ordem em que foram adicionadas. A execuo 
+	 * interrompida no primeiro erro e as operaes seguintes so reportadas como
+	 * no executadas.
+	 *
+	 * @return List<Result> - Resultado de cada operao do lote.
+	 */
+	public List<Result> run() {
+		List<Result> results = new ArrayList<Result>();
+		int index = 0;
+		while (index < operations.size() && !hasError(results)) {
+			if (operations.get(index).inPage()) {
+				int end = segmentEnd(index);
+				results.addAll(runInPage(operations.subList(index, end)));
+				index = end;
+			} else {
+				results.add(runNative(operations.get(index++)));
+			}
+		}
+
+		for (int i = results.size(); i < operations.size(); i++) {
+			results.add(new Result(operations.get(i), Status.SKIPPED, null));
+		}
+		log.info("Lote de [" + operations.size() + "] operaes executado.");
+		return results;
+	}
+
+	/**
+	 * Verifica se todas as operaes do lote foram executadas com sucesso.
+	 *
+	 * @param List<Result> - Resultados retornados por {@link #run()}.
+	 * @return boolean
+	 */
+	public static boolean succeeded(List<Result> results) {
+		for (Result result : results) {
+			if (result.getStatus() != Status.OK) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasError(List<Result> results) {
+		return !results.isEmpty() && results.get(results.size() - 1).getStatus() == Status.ERROR;
+	}
+
+	/**
+	 * O trecho enviado num nico script termina aps um clique (que pode navegar
+	 * e descartar o script), aps uma espera (limitada ao timeout de scripts) ou
+	 * antes de uma operao executada pelo driver.
+	 */
+	private int segmentEnd(int start) {
+		int end = start;
+		while (end < operations.size() && operations.get(end).inPage()) {
+			String action = operations.get(end++).action;
+			if ("click".equals(action) || "present".equals(action) || "visible".equals(action)) {
+				break;
+			}
+		}
+		return end;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Result> runInPage(List<Operation> segment) {
+		List<Map<String, Object>> payload = new ArrayList<Map<String, Object>>();
+		for (Operation operation : segment) {
+			payload.add(operation.toPayload(page.inPageMillis(page.waitMillis())));
+		}
+
+		List<Result> results = new ArrayList<Result>();
+		try {
+			List<Map<String, Object>> outcome = (List<Map<String, Object>>) ((JavascriptExecutor) page.getDriver())
+					.executeAsyncScript(WebScripts.BATCH, payload, page.isHighlightEnabled());
+			for (int i = 0; i < outcome.size(); i++) {
+				boolean ok = "ok".equals(outcome.get(i).get("status"));
+				results.add(report(new Result(segment.get(i), ok ? Status.OK : Status.ERROR,
+						(String) outcome.get(i).get("message"))));
+			}
+		} catch (WebDriverException e) {
+			results.add(report(new Result(segment.get(0), Status.ERROR, e.getMessage())));
+		}
+		return results;
+	}
+
+	private Result runNative(Operation operation) {
+		WebDriver driver = page.getDriver();
+		try {
+			if ("keys".equals(operation.action)) {
+				WebElement element = driver.findElement(operation.element);
+				element.clear();
+				element.sendKeys(operation.text);
+			} else if ("present".equals(operation.action)) {
+				new WebDriverWait(driver, page.waitMillis() / 1000)
+						.until(ExpectedConditions.presenceOfElementLocated(operation.element));
+			} else if ("visible".equals(operation.action)) {
+				new WebDriverWait(driver, page.waitMillis() / 1000)
+						.until(ExpectedConditions.visibilityOfElementLocated(operation.element));
+			} else if ("click".equals(operation.action)) {
+				driver.findElement(operation.element).click();
+			} else if ("select".equals(operation.action)) {
+				page.selectComboBox(operation.element, operation.text);
+			} else if ("fill".equals(operation.action)) {
+				page.type(driver.findElement(operation.element), operation.text);
+			} else {
+				driver.findElement(operation.element).sendKeys(operation.text);
+			}
+			return report(new Result(operation, Status.OK, null));
+		} catch (WebDriverException e) {
+			return report(new Result(operation, Status.ERROR, e.getMessage()));
+		}
+	}
+
+	private Result report(Result result) {
+		if (result.getStatus() == Status.ERROR) {
+			log.error("Falha na operao do lote " + result);
+		} else {
+			log.info("Operao do lote executada " + result);
+		}
+		return result;
+	}
+
+	// ******************************
+	// Resultados
+	// ******************************
+
+	/**
+	 * Situao de cada operao do lote.
+	 */
+	public enum Status {
+		OK, ERROR, SKIPPED
+	}
+
+	/**
+	 * Resultado de uma operao do lote.
+	 */
+	public static class Result {
+
+		private final String operation;
+		private final Status status;
+		private final String message;
+
+		private Result(Operation operation, Status status, String message) {
+			this.operation = operation.toString();
+			this.status = status;
+			this.message = message;
+		}
+
+		public String getOperation() {
+			return operation;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + operation + "] " + status + (message == null ? "" : " - " + message);
+		}
+	}
+
+	/**
+	 * Operao enfileirada no lote.
+	 */
+	private static class Operation {
+
+		private final String action;
+		private final By element;
+		private final String text;
+		private final String[] locator;
+
+		private Operation(String action, By element, String text, String[] locator) {
+			this.action = action;
+			this.element = element;
+			this.text = text;
+			this.locator = locator;
+		}
+
+		private boolean inPage() {
+			return locator != null && !"keys".equals(action);
+		}
+
+		private Map<String, Object> toPayload(long timeout) {
+			Map<String, Object> payload = new HashMap<String, Object>();
+			payload.put("action", action);
+			payload.put("using", locator[0]);
+			payload.put("value", locator[1]);
+			payload.put("text", text);
+			payload.put("timeout", timeout);
+			return payload;
+		}
+
+		@Override
+		public String toString() {
+			return action + " " + element;
+		}
+	}
+}
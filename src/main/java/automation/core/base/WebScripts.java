@@ -0,0 +1,491 @@
+package automation.core.base;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe com os scripts JS executados dentro da pgina pela WebBasePage.
+ * Cada script resolve numa nica chamada ao driver o que antes exigia diversas idas e voltas.
+*/
+
+final class WebScripts {
+
+	private WebScripts() {
+	}
+
+	/**
+	 * Instrumenta (uma nica vez por documento) fetch e XMLHttpRequest da pgina
+	 * para contabilizar as requisies em andamento da prpria aplicao (mesma
+	 * origem) em window.__automationNet.
+	 */
+	private static final String NET_TRACKER = ""
+			+ "var w = window;"
+			+ "if (!w.__automationNet) {"
+			+ "  var net = w.__automationNet = { pending: 0, last: Date.now() };"
+			+ "  var own = function (url) {"
+			+ "    try { return new URL(url, location.href).origin === location.origin; } catch (e) { return true; }"
+			+ "  };"
+			+ "  var start = function () { net.pending++; net.last = Date.now(); };"
+			+ "  var end = function () { net.pending = Math.max(0, net.pending - 1); net.last = Date.now(); };"
+			+ "  if (w.fetch) {"
+			+ "    var fetch = w.fetch;"
+			+ "    w.fetch = function (input) {"
+			+ "      var tracked = own(input && input.url ? input.url : input);"
+			+ "      if (tracked) { start(); }"
+			+ "      var result = fetch.apply(this, arguments);"
+			+ "      if (tracked) { result.then(end, end); }"
+			+ "      return result;"
+			+ "    };"
+			+ "  }"
+			+ "  var open = XMLHttpRequest.prototype.open, send = XMLHttpRequest.prototype.send;"
+			+ "  XMLHttpRequest.prototype.open = function (method, url) {"
+			+ "    this.__automationTracked = own(url);"
+			+ "    return open.apply(this, arguments);"
+			+ "  };"
+			+ "  XMLHttpRequest.prototype.send = function () {"
+			+ "    if (this.__automationTracked) { start(); this.addEventListener('loadend', end); }"
+			+ "    return send.apply(this, arguments);"
+			+ "  };"
+			+ "}";
+
+	/**
+	 * Instrumentao de rede registrada para executar no incio de cada documento
+	 * (DevTools), antes que a aplicao dispare suas primeiras requisies.
+	 */
+	static final String NET_TRACKER_ON_NEW_DOCUMENT = "(function () {" + NET_TRACKER + "})();";
+
+	/**
+	 * Aguarda (script assncrono) at que o DOM esteja interativo e a rede da
+	 * aplicao fique ociosa pelo perodo informado. Quando a instrumentao no
+	 * foi registrada no incio do documento, as requisies anteriores a ela so
+	 * acompanhadas pelo trmino dos recursos no Resource Timing.
+	 *
+	 * arguments[0] - tempo ocioso exigido em ms; arguments[1] - timeout em ms.
+	 * Retorna true quando pronta ou false quando o timeout  atingido.
+	 */
+	static final String PAGE_READY = ""
+			+ "var quiet = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];"
+			+ NET_TRACKER
+			+ "var limit = Date.now() + timeout;"
+			+ "var resourcesIdle = function () {"
+			+ "  if (!w.performance || !performance.getEntriesByType) { return true; }"
+			+ "  var last = 0, entries = performance.getEntriesByType('resource');"
+			+ "  for (var i = 0; i < entries.length; i++) {"
+			+ "    var origin = entries[i].name.split('/').slice(0, 3).join('/');"
+			+ "    if (origin === location.protocol + '//' + location.host) {"
+			+ "      last = Math.max(last, entries[i].responseEnd);"
+			+ "    }"
+			+ "  }"
+			+ "  return performance.now() - last >= quiet;"
+			+ "};"
+			+ "(function check() {"
+			+ "  var net = w.__automationNet;"
+			+ "  if (document.readyState !== 'loading' && net.pending === 0 && Date.now() - net.last >= quiet"
+			+ "      && resourcesIdle()) {"
+			+ "    return done(true);"
+			+ "  }"
+			+ "  if (Date.now() > limit) { return done(false); }"
+			+ "  setTimeout(check, 50);"
+			+ "})();";
+
+	/**
+	 * Valida se o elemento est apto a receber o clique (conectado, habilitado e
+	 * visvel), rola at ele, verifica se no est encoberto, aplica o destaque
+	 * opcional e clica.
+	 *
+	 * arguments[0] - elemento; arguments[1] - aplicar destaque.
+	 * Retorna clicked, stale, disabled, hidden ou obscured.
+	 */
+	static final String FAST_CLICK = ""
+			+ "var el = arguments[0], highlight = arguments[1];"
+			+ "if (!document.documentElement.contains(el)) { return 'stale'; }"
+			+ "if (el.disabled) { return 'disabled'; }"
+			+ "var style = window.getComputedStyle(el);"
+			+ "if (style.visibility === 'hidden' || style.display === 'none' || el.getClientRects().length === 0) {"
+			+ "  return 'hidden';"
+			+ "}"
+			+ "el.scrollIntoView({ block: 'center', inline: 'center' });"
+			+ "var rect = el.getBoundingClientRect();"
+			+ "var hit = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);"
+			+ "if (!hit || (hit !== el && !el.contains(hit))) { return 'obscured'; }"
+			+ "if (highlight) { el.style.border = '2px solid red'; }"
+			+ "el.click();"
+			+ "return 'clicked';";
+
+	/**
+	 * Retorna todas as opes de um select com texto, valor e seleo.
+	 *
+	 * arguments[0] - elemento select.
+	 */
+	static final String SELECT_OPTIONS = ""
+			+ "return Array.prototype.map.call(arguments[0].options, function (option) {"
+			+ "  return { text: option.text, value: option.value, selected: option.selected };"
+			+ "});";
+
+	/**
+	 * Percorre os candidatos dentro da pgina e retorna o primeiro elemento
+	 * renderizado cujo texto visvel atende ao modo de comparao. O elemento
+	 * encontrado  rolado at a rea visvel e recebe o destaque opcional.
+	 *
+	 * arguments[0] - elemento pai, lista de candidatos ou null (documento);
+	 * arguments[1] - tag ou seletor CSS; arguments[2] - texto; arguments[3] - modo
+	 * (EXACT, CONTAINS ou REGEX); arguments[4] - aplicar destaque.
+	 * Retorna o elemento ou null.
+	 */
+	static final String FIND_BY_TEXT = ""
+			+ "var scope = arguments[0], tag = arguments[1], text = arguments[2], mode = arguments[3];"
+			+ "var candidates = Array.isArray(scope) ? scope : (scope || document).querySelectorAll(tag);"
+			+ "var normalize = function (value) { return value.replace(/\\s+/g, ' ').trim(); };"
+			+ "var expected = normalize(text), pattern = mode === 'REGEX' ? new RegExp(text) : null;"
+			+ "for (var i = 0; i < candidates.length; i++) {"
+			+ "  var el = candidates[i];"
+			+ "  if (el.getClientRects().length === 0) { continue; }"
+			+ "  var actual = el.innerText || el.textContent || '';"
+			+ "  var matched = mode === 'EXACT' ? normalize(actual) === expected"
+			+ "      : mode === 'REGEX' ? pattern.test(actual) : actual.indexOf(text) >= 0;"
+			+ "  if (matched) {"
+			+ "    el.scrollIntoView({ block: 'center', inline: 'center' });"
+			+ "    if (arguments[4]) { el.style.border = '2px solid red'; }"
+			+ "    return el;"
+			+ "  }"
+			+ "}"
+			+ "return null;";
+
+	/**
+	 * Instala (uma nica vez por documento) o contador de mutaes do DOM e
+	 * verifica se o elemento em cache ainda  vlido: conectado, mesmo documento
+	 * e nenhuma mutao desde a sua localizao. Alteraes apenas no atributo
+	 * style (ex: destaque) no alteram a verso.
+	 *
+	 * arguments[0] - elemento em cache ou null; arguments[1] - token do documento;
+	 * arguments[2] - verso do DOM registrada.
+	 */
+	private static final String DOM_STATE_CHECK = ""
+			+ "var w = window;"
+			+ "if (!w.__automationDom) {"
+			+ "  var dom = w.__automationDom = { token: Math.random().toString(36).slice(2), version: 0 };"
+			+ "  dom.count = function (records) {"
+			+ "    for (var i = 0; i < records.length; i++) {"
+			+ "      if (records[i].attributeName !== 'style') { dom.version++; return; }"
+			+ "    }"
+			+ "  };"
+			+ "  dom.observer = new MutationObserver(dom.count);"
+			+ "  dom.observer.observe(document, { subtree: true, childList: true, attributes: true,"
+			+ "      characterData: true });"
+			+ "}"
+			+ "var dom = w.__automationDom, el = arguments[0];"
+			+ "dom.count(dom.observer.takeRecords());"
+			+ "var state = { token: dom.token, version: dom.version };"
+			+ "state.valid = !!el && document.documentElement.contains(el)"
+			+ "    && arguments[1] === dom.token && arguments[2] === dom.version;";
+
+	/**
+	 * Clica no elemento em cache caso ainda seja vlido, aplicando o destaque
+	 * opcional (arguments[3]). Retorna o estado da verso do DOM.
+	 */
+	static final String CACHED_CLICK = DOM_STATE_CHECK
+			+ "if (state.valid) {"
+			+ "  if (arguments[3]) { el.style.border = '2px solid red'; }"
+			+ "  el.click();"
+			+ "}"
+			+ "return state;";
+
+	/**
+	 * Retorna a posio do frame (arguments[0]) entre os frames e iframes do
+	 * documento atual, identificando-o de forma estvel no cache de elementos.
+	 */
+	static final String FRAME_INDEX = ""
+			+ "return Array.prototype.indexOf.call(document.querySelectorAll('iframe, frame'), arguments[0]);";
+
+	/**
+	 * Define locateAll(using, value), que avalia dentro da pgina os seletores By
+	 * (id, name, className, tagName, cssSelector, xpath, linkText e
+	 * partialLinkText) e retorna a lista de elementos encontrados.
+	 */
+	private static final String LOCATE_ALL = ""
+			+ "var locateAll = function (using, value) {"
+			+ "  var list = function (items) { return Array.prototype.slice.call(items); };"
+			+ "  var link = function (partial) {"
+			+ "    return list(document.getElementsByTagName('a')).filter(function (a) {"
+			+ "      var content = (a.innerText || a.textContent || '').trim();"
+			+ "      return partial ? content.indexOf(value) >= 0 : content === value;"
+			+ "    });"
+			+ "  };"
+			+ "  switch (using) {"
+			+ "    case 'id': var el = document.getElementById(value); return el ? [el] : [];"
+			+ "    case 'name': return list(document.getElementsByName(value));"
+			+ "    case 'className': return list(document.getElementsByClassName(value));"
+			+ "    case 'tagName': return list(document.getElementsByTagName(value));"
+			+ "    case 'xpath':"
+			+ "      if (typeof document.evaluate !== 'function') { throw new Error('xpath unsupported'); }"
+			+ "      var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+			+ "      var nodes = [];"
+			+ "      for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }"
+			+ "      return nodes;"
+			+ "    case 'linkText': return link(false);"
+			+ "    case 'partialLinkText': return link(true);"
+			+ "    default: return list(document.querySelectorAll(value));"
+			+ "  }"
+			+ "};";
+
+	/**
+	 * Confere a verso do DOM do elemento em cache e, caso invlida, localiza
+	 * novamente o elemento pelo seletor (arguments[3] e arguments[4]) na mesma
+	 * chamada. Retorna o estado da verso do DOM com o elemento localizado em
+	 * element.
+	 */
+	static final String CACHED_RESOLVE = DOM_STATE_CHECK
+			+ LOCATE_ALL
+			+ "if (!state.valid && arguments[3]) {"
+			+ "  var found = locateAll(arguments[3], arguments[4]);"
+			+ "  state.element = found.length ? found[0] : null;"
+			+ "}"
+			+ "return state;";
+
+	/**
+	 * Aguarda (script assncrono) uma condio sobre um elemento, reavaliando-a a
+	 * cada mutao do DOM atravs de um MutationObserver, com uma verificao de
+	 * segurana peridica para mudanas sem mutao (ex: animaes CSS).
+	 *
+	 * arguments[0] - tipo do seletor (id, name, className, tagName, cssSelector,
+	 * xpath, linkText, partialLinkText) ou null; arguments[1] - valor do seletor;
+	 * arguments[2] - elemento j localizado ou null; arguments[3] - condio
+	 * (present, visible, clickable, enabled, text ou invisible); arguments[4] -
+	 * texto esperado; arguments[5] - timeout em ms; arguments[6] - intervalo da
+	 * verificao de segurana em ms.
+	 * Retorna o elemento (ou true para invisible) ou null quando o timeout 
+	 * atingido.
+	 */
+	static final String WAIT_FOR = ""
+			+ "var using = arguments[0], value = arguments[1], target = arguments[2], condition = arguments[3];"
+			+ "var text = arguments[4], timeout = arguments[5], interval = arguments[6];"
+			+ "var done = arguments[arguments.length - 1];"
+			+ LOCATE_ALL
+			+ "var locate = function () {"
+			+ "  if (target) { return document.documentElement.contains(target) ? target : null; }"
+			+ "  var found = locateAll(using, value);"
+			+ "  return found.length ? found[0] : null;"
+			+ "};"
+			+ "var visible = function (el) {"
+			+ "  if (!el) { return false; }"
+			+ "  var style = window.getComputedStyle(el);"
+			+ "  return style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0'"
+			+ "      && el.getClientRects().length > 0;"
+			+ "};"
+			+ "var check = function () {"
+			+ "  var el = locate();"
+			+ "  switch (condition) {"
+			+ "    case 'present': return el;"
+			+ "    case 'visible': return visible(el) ? el : null;"
+			+ "    case 'clickable': return visible(el) && !el.disabled ? el : null;"
+			+ "    case 'enabled': return el && !el.disabled ? el : null;"
+			+ "    case 'text': return el && (el.innerText || el.textContent || '').indexOf(text) >= 0 ? el : null;"
+			+ "    case 'invisible': return visible(el) ? null : true;"
+			+ "    default: return null;"
+			+ "  }"
+			+ "};"
+			+ "var result = check();"
+			+ "if (result) { return done(result); }"
+			+ "var finished = false, observer, poll, timer;"
+			+ "var finish = function (value) {"
+			+ "  if (finished) { return; }"
+			+ "  finished = true;"
+			+ "  observer.disconnect();"
+			+ "  clearInterval(poll);"
+			+ "  clearTimeout(timer);"
+			+ "  done(value);"
+			+ "};"
+			+ "var recheck = function () { var found = check(); if (found) { finish(found); } };"
+			+ "observer = new MutationObserver(recheck);"
+			+ "observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });"
+			+ "poll = setInterval(recheck, interval);"
+			+ "timer = setTimeout(function () { finish(null); }, timeout);";
+
+	/**
+	 * Rola at o final da pgina e aguarda (script assncrono) at que a altura
+	 * do documento e as requisies da aplicao se estabilizem. Quando um seletor
+	 *  informado, continua rolando at que a quantidade mnima de elementos
+	 * aparea, o final do contedo seja atingido ou o limite de rolagens acabe.
+	 *
+	 * arguments[0] - tempo de estabilidade exigido em ms; arguments[1] - timeout
+	 * em ms; arguments[2] - limite de rolagens; arguments[3] - tipo do seletor ou
+	 * null; arguments[4] - valor do seletor; arguments[5] - quantidade mnima.
+	 * Retorna { status (stable, found, end, exhausted ou timeout), scrolls, count }.
+	 */
+	static final String SCROLL_UNTIL_STABLE = ""
+			+ "var quiet = arguments[0], timeout = arguments[1], maxScrolls = arguments[2];"
+			+ "var using = arguments[3], value = arguments[4], expected = arguments[5];"
+			+ "var done = arguments[arguments.length - 1];"
+			+ NET_TRACKER
+			+ LOCATE_ALL
+			+ "var root = document.scrollingElement || document.documentElement;"
+			+ "var scrolls = 0, count = 0, height = -1, scrolledAt = -1, changed = Date.now();"
+			+ "var limit = Date.now() + timeout;"
+			+ "var finish = function (status) { done({ status: status, scrolls: scrolls, count: count }); };"
+			+ "var scroll = function () {"
+			+ "  scrolledAt = root.scrollHeight;"
+			+ "  window.scrollTo(0, scrolledAt);"
+			+ "  scrolls++;"
+			+ "  changed = Date.now();"
+			+ "};"
+			+ "var reached = function () {"
+			+ "  if (using === null) { return false; }"
+			+ "  count = locateAll(using, value).length;"
+			+ "  return count >= expected;"
+			+ "};"
+			+ "if (reached()) { return finish('found'); }"
+			+ "scroll();"
+			+ "(function check() {"
+			+ "  if (reached()) { return finish('found'); }"
+			+ "  var net = w.__automationNet, now = Date.now();"
+			+ "  if (root.scrollHeight !== height || net.pending > 0) {"
+			+ "    height = root.scrollHeight;"
+			+ "    changed = now;"
+			+ "  } else if (now - changed >= quiet && now - net.last >= quiet) {"
+			+ "    if (using === null) { return finish('stable'); }"
+			+ "    if (height === scrolledAt) { return finish('end'); }"
+			+ "    if (scrolls >= maxScrolls) { return finish('exhausted'); }"
+			+ "    scroll();"
+			+ "  }"
+			+ "  if (now > limit) { return finish('timeout'); }"
+			+ "  setTimeout(check, 50);"
+			+ "})();";
+
+	/**
+	 * Define as funes de preenchimento utilizadas pelos scripts em lote:
+	 * setValue(el, value), que altera o valor pelo setter nativo (compatvel com
+	 * frameworks que observam o valor) e dispara os eventos input e change,
+	 * selectOption(el, value), que seleciona a opo pelo valor, texto visvel ou
+	 * ndice, e fillField(el, value), que preenche conforme o tipo do campo
+	 * (select, checkbox/radio, contedo editvel ou texto). Os eventos so criados
+	 * por document.createEvent quando o construtor Event no existe (IE11).
+	 */
+	private static final String FILL = ""
+			+ "var fire = function (el, type) {"
+			+ "  var event;"
+			+ "  try {"
+			+ "    event = new Event(type, { bubbles: true });"
+			+ "  } catch (e) {"
+			+ "    event = document.createEvent('Event');"
+			+ "    event.initEvent(type, true, false);"
+			+ "  }"
+			+ "  el.dispatchEvent(event);"
+			+ "};"
+			+ "var setValue = function (el, value) {"
+			+ "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');"
+			+ "  if (el.focus) { el.focus(); }"
+			+ "  if (descriptor && descriptor.set) { descriptor.set.call(el, value); } else { el.value = value; }"
+			+ "  fire(el, 'input');"
+			+ "  fire(el, 'change');"
+			+ "};"
+			+ "var selectOption = function (el, value) {"
+			+ "  var options = Array.prototype.slice.call(el.options || []);"
+			+ "  var option = options.filter(function (o) { return o.value === value; })[0]"
+			+ "      || options.filter(function (o) { return o.text.trim() === value; })[0]"
+			+ "      || (/^\\d+$/.test(value) ? options[parseInt(value, 10)] : null);"
+			+ "  if (!option) { throw new Error('opo [' + value + '] no encontrada'); }"
+			+ "  option.selected = true;"
+			+ "  fire(el, 'input');"
+			+ "  fire(el, 'change');"
+			+ "};"
+			+ "var fillField = function (el, value) {"
+			+ "  var type = (el.type || '').toLowerCase();"
+			+ "  if (el.tagName === 'SELECT') { return selectOption(el, value); }"
+			+ "  if (type === 'checkbox' || type === 'radio') {"
+			+ "    var checked = /^(true|1|s|sim|x|on|yes|y)$/i.test(String(value).trim());"
+			+ "    if (el.checked !== checked) { el.click(); }"
+			+ "    return;"
+			+ "  }"
+			+ "  if (el.isContentEditable) {"
+			+ "    el.textContent = value;"
+			+ "    return fire(el, 'input');"
+			+ "  }"
+			+ "  setValue(el, value);"
+			+ "};";
+
+	/**
+	 * Executa em sequncia (script assncrono) um lote de operaes: type,
+	 * fill, click, select, present e visible. A execuo  interrompida no primeiro
+	 * erro.
+	 *
+	 * arguments[0] - lista de operaes { action, using, value, text, timeout };
+	 * arguments[1] - aplicar destaque.
+	 * Retorna a lista de resultados { status (ok ou error), message } das
+	 * operaes executadas.
+	 */
+	static final String BATCH = ""
+			+ "var operations = arguments[0], highlight = arguments[1], done = arguments[arguments.length - 1];"
+			+ LOCATE_ALL
+			+ FILL
+			+ "var results = [];"
+			+ "var visible = function (el) {"
+			+ "  if (!el) { return false; }"
+			+ "  var style = window.getComputedStyle(el);"
+			+ "  return style.visibility !== 'hidden' && style.display !== 'none' && el.getClientRects().length > 0;"
+			+ "};"
+			+ "var locate = function (op) { var found = locateAll(op.using, op.value); return found[0]; };"
+			+ "var mark = function (el) { if (highlight) { el.style.border = '2px solid red'; } };"
+			+ "var run = function (op) {"
+			+ "  var el = locate(op);"
+			+ "  if (!el) { throw new Error('elemento no encontrado'); }"
+			+ "  if (el.disabled) { throw new Error('elemento desabilitado'); }"
+			+ "  mark(el);"
+			+ "  switch (op.action) {"
+			+ "    case 'type': setValue(el, op.text); break;"
+			+ "    case 'select': selectOption(el, op.text); break;"
+			+ "    case 'fill': fillField(el, op.text); break;"
+			+ "    case 'click': el.click(); break;"
+			+ "    default: throw new Error('operao desconhecida [' + op.action + ']');"
+			+ "  }"
+			+ "};"
+			+ "var waitFor = function (op, next) {"
+			+ "  var check = function () {"
+			+ "    var el = locate(op);"
+			+ "    return op.action === 'visible' ? visible(el) : !!el;"
+			+ "  };"
+			+ "  if (check()) { return next(null); }"
+			+ "  var finished = false, observer, poll, timer;"
+			+ "  var finish = function (error) {"
+			+ "    if (finished) { return; }"
+			+ "    finished = true;"
+			+ "    observer.disconnect();"
+			+ "    clearInterval(poll);"
+			+ "    clearTimeout(timer);"
+			+ "    next(error);"
+			+ "  };"
+			+ "  var recheck = function () { if (check()) { finish(null); } };"
+			+ "  observer = new MutationObserver(recheck);"
+			+ "  observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });"
+			+ "  poll = setInterval(recheck, 100);"
+			+ "  timer = setTimeout(function () { finish('tempo de espera excedido'); }, op.timeout);"
+			+ "};"
+			+ "(function next(index) {"
+			+ "  if (index >= operations.length) { return done(results); }"
+			+ "  var op = operations[index];"
+			+ "  if (op.action === 'present' || op.action === 'visible') {"
+			+ "    return waitFor(op, function (error) {"
+			+ "      results.push(error ? { status: 'error', message: error } : { status: 'ok' });"
+			+ "      return error ? done(results) : next(index + 1);"
+			+ "    });"
+			+ "  }"
+			+ "  try {"
+			+ "    run(op);"
+			+ "    results.push({ status: 'ok' });"
+			+ "  } catch (e) {"
+			+ "    results.push({ status: 'error', message: e.message });"
+			+ "    return done(results);"
+			+ "  }"
+			+ "  next(index + 1);"
+			+ "})(0);";
+
+	/**
+	 * Esvazia o campo pelo setter nativo, disparando os eventos input e change.
+	 *
+	 * arguments[0] - campo.
+	 * Retorna o valor que permaneceu no campo (vazio quando limpo).
+	 */
+	static final String CLEAR_FIELD = FILL
+			+ "setValue(arguments[0], '');"
+			+ "return arguments[0].value;";
+}
@@ -0,0 +1,108 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por enviar comandos DevTools (CDP) s sesses do Chrome atravs do endpoint
+ * goog/cdp/execute do chromedriver, local ou remoto, utilizando o transporte do RemoteTransport.
+*/
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.BrowserType;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import automation.logging.log4j.Log4JSetup;
+
+public class DevTools {
+
+	private static Logger log = Log4JSetup.getLogger(DevTools.class);
+	private static final Json json = new Json();
+
+	// ******************************
+	// Comandos
+	// ******************************
+
+	/**
+	 * Verifica se a sesso aceita comandos DevTools (sesses do Chrome).
+	 *
+	 * @param WebDriver - Sesso a ser verificada.
+	 * @return boolean
+	 */
+	public static boolean isAvailable(WebDriver driver) {
+		return driver instanceof RemoteWebDriver && driver instanceof HasCapabilities
+				&& BrowserType.CHROME.equals(((HasCapabilities) driver).getCapabilities().getBrowserName());
+	}
+
+	/**
+	 * Registra um script executado no incio de cada novo documento da sesso,
+	 * antes de qualquer script da pgina (Page.addScriptToEvaluateOnNewDocument).
+	 *
+	 * @param WebDriver - Sesso do Chrome.
+	 * @param String    - Cdigo JS a ser executado.
+	 * @return boolean - true caso o script tenha sido registrado.
+	 */
+	public static boolean addScriptOnNewDocument(WebDriver driver, String source) {
+		if (!isAvailable(driver)) {
+			return false;
+		}
+
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put("source", source);
+		try {
+			execute((RemoteWebDriver) driver, "Page.addScriptToEvaluateOnNewDocument", params);
+			return true;
+		} catch (IOException e) {
+			log.error("No foi possvel registrar o script de incio de documento na sesso.");
+			return false;
+		}
+	}
+
+	/**
+	 * Envia um comando DevTools atravs do endpoint goog/cdp/execute do
+	 * chromedriver (local ou remoto), utilizando o transporte compartilhado do
+	 * {@link RemoteTransport} e seus timeouts (browser.remote.timeout.*).
+	 *
+	 * @param RemoteWebDriver     - Sesso do Chrome.
+	 * @param String              - Comando (ex: Network.enable).
+	 * @param Map<String, Object> - Parmetros do comando.
+	 * @throws IOException - Caso o comando falhe ou no seja suportado.
+	 */
+	public static void execute(RemoteWebDriver driver, String cmd, Map<String, Object> params) throws IOException {
+		CommandExecutor executor = driver.getCommandExecutor();
+		if (!(executor instanceof HttpCommandExecutor)) {
+			throw new IOException("Executor de comandos no suporta DevTools.");
+		}
+		URL server = ((HttpCommandExecutor) executor).getAddressOfRemoteServer();
+
+		Map<String, Object> body = new HashMap<String, Object>();
+		body.put("cmd", cmd);
+		body.put("params", params);
+
+		HttpRequest request = new HttpRequest(HttpMethod.POST,
+				"/session/" + driver.getSessionId() + "/goog/cdp/execute");
+		request.setHeader("Content-Type", "application/json; charset=utf-8");
+		request.setContent(json.toJson(body).getBytes(StandardCharsets.UTF_8));
+
+		HttpResponse response = RemoteTransport.factory().createClient(server).execute(request);
+		if (response.getStatus() != HttpURLConnection.HTTP_OK) {
+			throw new IOException("Comando DevTools [" + cmd + "] retornou " + response.getStatus());
+		}
+	}
+}
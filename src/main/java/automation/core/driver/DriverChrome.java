@@ -12,33 +12,44 @@ package automation.core.driver;
 import java.util.HashMap;
 
 import org.apache.log4j.Logger;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
+import automation.core.utils.Config;
 import automation.core.utils.Utils;
 import automation.logging.log4j.Log4JSetup;
 
 public class DriverChrome implements BrowserInterface {
 
-	private ChromeDriver driver;
+	private RemoteWebDriver driver;
 	private Logger log = Log4JSetup.getLogger(DriverChrome.class);
 
+	static {
+		System.setProperty("webdriver.chrome.driver", Utils.binDriverPath("chrome"));
+		System.setProperty("webdriver.chrome.args", "--disable-logging");
+		System.setProperty("webdriver.chrome.silentOutput", "true");
+	}
+
 	// ******************************
 	// Construtor
 	// ******************************
 
 	/**
 	 * Responsavel por criar e configurar corretamente o objeto do tipo
-	 * ChromeDriver.
+	 * ChromeDriver. Com browser.service.shared ativo, a sesso  criada no
+	 * chromedriver compartilhado mantido pelo {@link DriverServices}.
 	 */
 	public DriverChrome() {
 
-		System.setProperty("webdriver.chrome.driver", Utils.binDriverPath("chrome"));
-		System.setProperty("webdriver.chrome.args", "--disable-logging");
-		System.setProperty("webdriver.chrome.silentOutput", "true");
-
 		ChromeOptions options = setupChromeBrowser();
-		driver = new ChromeDriver(options);
+		if (DriverServices.isShared()) {
+			driver = new RemoteWebDriver(RemoteTransport.executor(DriverServices.chrome()), options);
+		} else {
+			driver = new ChromeDriver(options);
+		}
+		NetworkBlocker.apply(driver);
 		log.info("Chrome iniciado com sucesso.");
 	}
 
@@ -55,7 +66,7 @@ public class DriverChrome implements BrowserInterface {
 	private ChromeOptions setupChromeBrowser() {
 
 		String downloadFolderPath = Utils.binDownloadFolderPath();
-		boolean headless = !Utils.getProp("browser.mode.headless").isEmpty();
+		boolean headless = Config.get().isHeadless();
 
 		// Configurando Preferencias de Download
 		HashMap<String, Object> chromePrefs = new HashMap<String, Object>();
@@ -83,13 +94,16 @@ public class DriverChrome implements BrowserInterface {
 			options.addArguments("--ignore-certificate-errors");
 		}
 
+		NetworkBlocker.setupOptions(options);
+		DriverManager.setupPageLoadStrategy(options, "chrome");
+
 		return options;
 	}
 
 	/**
 	 * Retorno do objeto Driver devidamente configurado
 	 */
-	public ChromeDriver getDriver() {
+	public WebDriver getDriver() {
 		return driver;
 	}
 
@@ -14,32 +14,43 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.firefox.FirefoxProfile;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
+import automation.core.utils.Config;
 import automation.core.utils.Utils;
 import automation.logging.log4j.Log4JSetup;
 
 public class DriverFirefox implements BrowserInterface {
 
-	private FirefoxDriver driver;
+	private RemoteWebDriver driver;
 	private Logger log = Log4JSetup.getLogger(DriverFirefox.class);
 
+	static {
+		System.setProperty("webdriver.gecko.driver", Utils.binDriverPath("firefox"));
+		System.setProperty(FirefoxDriver.SystemProperty.DRIVER_USE_MARIONETTE, "true");
+		System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, "/dev/null");
+	}
+
 	// ******************************
 	// Construtor
 	// ******************************
 
 	/**
 	 * Responsavel por criar e configurar corretamente o objeto do tipo
-	 * FirefoxDriver.
+	 * FirefoxDriver. Com browser.service.shared ativo, a sesso  criada no
+	 * geckodriver do worker mantido pelo {@link DriverServices}; com o pool de
+	 * sesses ativo cada sesso possui o seu prprio geckodriver, pois o pool
+	 * mantm vrias sesses abertas ao mesmo tempo.
 	 */
 	public DriverFirefox() {
 
-		System.setProperty("webdriver.gecko.driver", Utils.binDriverPath("firefox"));
-		System.setProperty(FirefoxDriver.SystemProperty.DRIVER_USE_MARIONETTE, "true");
-		System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, "/dev/null");
-
 		FirefoxOptions firefoxOptions = setupBrowser();
 
-		driver = new FirefoxDriver(firefoxOptions);
+		if (DriverServices.isShared() && !DriverPool.isEnabled()) {
+			driver = new RemoteWebDriver(RemoteTransport.executor(DriverServices.firefox()), firefoxOptions);
+		} else {
+			driver = new FirefoxDriver(firefoxOptions);
+		}
 		log.info("Firefox iniciado com sucesso.");
 	}
 
@@ -56,29 +67,16 @@ public class DriverFirefox implements BrowserInterface {
 	private FirefoxOptions setupBrowser() {
 
 		String downloadFolderPath = Utils.binDownloadFolderPath();
-		boolean headless = !Utils.getProp("browser.mode.headless").isEmpty();
-
-		FirefoxProfile profile = new FirefoxProfile();
-		profile.setPreference("browser.download.folderList", 2);
-		profile.setPreference("browser.download.dir", downloadFolderPath);
-		profile.setPreference("browser.download.manager.alertOnEXEOpen", false);
-		profile.setPreference("browser.download.manager.closeWhenDone", true);
-		profile.setPreference("browser.download.manager.focusWhenStarting", false);
-		profile.setPreference("browser.download.manager.showWhenStarting", false);
-		profile.setPreference("browser.download.manager.showAlertOnComplete", false);
-		profile.setPreference("browser.download.manager.useWindow", false);
-		profile.setPreference("browser.helperApps.alwaysAsk.force", false);
-		profile.setPreference("browser.helperApps.neverAsk.saveToDisk",
-				"application/msword, application/csv, application/ris, text/csv, image/png, "
-						+ "application/pdf, text/html, text/plain, application/zip, application/x-zip, "
-						+ "application/x-zip-compressed, application/download, application/octet-stream");
-		profile.setPreference("services.sync.prefs.sync.browser.download.manager.showWhenStarting", false);
-		profile.setPreference("pdfjs.disabled", true);
+		boolean headless = Config.get().isHeadless();
+
+		// Perfil construdo uma nica vez e reaproveitado (ver browser.firefox.pref.*)
+		FirefoxProfile profile = FirefoxProfileCache.getProfile(downloadFolderPath);
 
 		// Configuraes das opes do perfil para inserir no navegador
 		FirefoxOptions firefoxOptions = new FirefoxOptions();
 		firefoxOptions.setProfile(profile);
 		firefoxOptions.setHeadless(headless);
+		DriverManager.setupPageLoadStrategy(firefoxOptions, "firefox");
 
 		return firefoxOptions;
 	}
@@ -14,6 +14,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.ie.InternetExplorerDriver;
 import org.openqa.selenium.ie.InternetExplorerOptions;
 
+import automation.core.utils.Config;
 import automation.core.utils.Utils;
 import automation.logging.log4j.Log4JSetup;
 
@@ -50,12 +51,13 @@ public class DriverIE implements BrowserInterface {
 	 * @return InternetExplorerOptions - Conjunto de configuraes do browser.
 	 */
 	private static InternetExplorerOptions setupBrowser() {
-		String site = Utils.getProp("env.app." + Utils.getProp("env.app"));
+		String site = Config.get().getAppUrl();
 
 		InternetExplorerOptions capability = new InternetExplorerOptions();
 		capability.setCapability(InternetExplorerDriver.INTRODUCE_FLAKINESS_BY_IGNORING_SECURITY_DOMAINS, true);
 		capability.setCapability(InternetExplorerDriver.IGNORE_ZOOM_SETTING, true);
 		capability.setCapability(InternetExplorerDriver.INITIAL_BROWSER_URL, site);
+		DriverManager.setupPageLoadStrategy(capability, "ie");
 
 		return capability;
 	}
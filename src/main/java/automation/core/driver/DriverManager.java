@@ -9,15 +9,56 @@ package automation.core.driver;
  * Sem a necessidade de ser reescrita no caso da incluso de novas classes responsveis por criar drivers.
 */
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.apache.log4j.Logger;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CapabilityType;
 
-import automation.core.utils.Utils;
+import automation.core.utils.Config;
+import automation.core.utils.WorkerContext;
 import automation.logging.log4j.Log4JSetup;
 
 public class DriverManager {
 
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
 	private static Logger log = Log4JSetup.getLogger(DriverManager.class);
+	private static final ThreadLocal<CompletableFuture<WebDriver>> prestarted =
+			new ThreadLocal<CompletableFuture<WebDriver>>();
+	private static final ExecutorService starter = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "driver-starter");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static final Set<CompletableFuture<WebDriver>> pending = ConcurrentHashMap.newKeySet();
+
+	static {
+		// Drivers antecipados que no foram utilizados so encerrados ao final da JVM,
+		// aguardando no mximo SHUTDOWN_TIMEOUT_MILLIS pelas inicializaes pendentes
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+			for (CompletableFuture<WebDriver> future : pending) {
+				try {
+					long remaining = Math.max(0, deadline - System.currentTimeMillis());
+					finishDriver(future.get(remaining, TimeUnit.MILLISECONDS));
+				} catch (TimeoutException e) {
+					future.cancel(true);
+					log.error("Inicializao antecipada do driver no concluda, encerramento abandonado.");
+				} catch (Exception e) {
+					log.error("No foi possvel encerrar o driver iniciado antecipadamente.");
+				}
+			}
+		}));
+	}
 
 	// ******************************
 	// Builder
@@ -27,12 +68,97 @@ public class DriverManager {
 	 * Mtodo pblico e esttico capaz de decidir qual driver deve ser criado com
 	 * base no setup de propriedades.
 	 * 
+	 * Quando o modo pool estiver ativo (browser.pool.enabled), a sesso 
+	 * emprestada do {@link DriverPool} ao invs de iniciar um novo browser. Caso
+	 * um driver tenha sido antecipado por {@link #prestartDriver()} na thread
+	 * atual, ele  reaproveitado.
+	 * 
 	 * @return WebDriver - Objeto do tipo WebDriver devidamente configurado e pronto
 	 *         para uso.
 	 */
 	public static WebDriver driverBuilder() {
-		String browser = Utils.getProp("browser.name");
-		String browserClass = Utils.getProp(String.format("browser.option.%s", browser));
+		CompletableFuture<WebDriver> future = prestarted.get();
+		if (future != null) {
+			prestarted.remove();
+			pending.remove(future);
+			try {
+				log.info("Utilizando driver iniciado antecipadamente.");
+				return future.join();
+			} catch (Exception e) {
+				log.error("Falha no driver iniciado antecipadamente, criando um novo driver.");
+			}
+		}
+
+		return buildDriver();
+	}
+
+	/**
+	 * Responsvel por iniciar um driver em segundo plano, permitindo que a
+	 * inicializao do browser ocorra em paralelo com o carregamento de massas de
+	 * dados, glue e preparao dos steps.
+	 * 
+	 * @return CompletableFuture<WebDriver> - Driver completamente iniciado e
+	 *         posicionado na URL inicial quando concludo.
+	 */
+	public static CompletableFuture<WebDriver> driverBuilderAsync() {
+		int worker = WorkerContext.id();
+		return CompletableFuture.supplyAsync(() -> {
+			WorkerContext.bind(worker);
+			return buildDriver();
+		}, starter);
+	}
+
+	/**
+	 * Responsvel por antecipar a inicializao do prximo driver da thread atual.
+	 * A prxima chamada de {@link #driverBuilder()} nesta thread recebe este
+	 * driver, sem aguardar a inicializao do browser.
+	 */
+	public static void prestartDriver() {
+		if (prestarted.get() != null || DriverPool.isEnabled()) {
+			return;
+		}
+
+		CompletableFuture<WebDriver> future = driverBuilderAsync();
+		prestarted.set(future);
+		pending.add(future);
+		log.info("Iniciando antecipadamente o prximo driver.");
+	}
+
+	/**
+	 * Verifica se a propriedade browser.prestart est ativa, indicando que o
+	 * prximo driver deve ser iniciado enquanto o atual  encerrado.
+	 * 
+	 * @return boolean
+	 */
+	public static boolean isPrestartEnabled() {
+		return Config.get().isEnabled("browser.prestart");
+	}
+
+	/**
+	 * Responsvel por criar (ou emprestar do pool) um driver de forma sncrona.
+	 * 
+	 * @return WebDriver - Driver pronto para uso.
+	 */
+	private static WebDriver buildDriver() {
+		if (DriverPool.isEnabled()) {
+			return DriverPool.lease();
+		}
+
+		WebDriver webDriver = createDriver();
+		openStartUrl(webDriver);
+		return webDriver;
+	}
+
+	/**
+	 * Responsvel por instanciar o driver configurado em browser.name e ajustar o
+	 * tamanho da janela, sem navegar para a URL inicial.
+	 * 
+	 * @return WebDriver - Sesso recm criada.
+	 */
+	static WebDriver createDriver() {
+		Config config = Config.get();
+		String browser = config.getBrowser();
+		String browserClass = config.get(String.format("browser.option.%s", browser));
 		String browseRootFolder = "automation.core.driver.";
 
 		BrowserInterface driver = null;
@@ -53,25 +179,64 @@ public class DriverManager {
 		}
 
 		WebDriver webDriver = driver.getDriver();
-		if (Utils.getProp("browser.mode.headless").isEmpty()) {
+		if (!config.isHeadless()) {
 			webDriver.manage().window().maximize();
 			log.info("TAMANHO DA TELA " + webDriver.manage().window().getSize());
 		}
 
+		return webDriver;
+	}
+
+	/**
+	 * Responsvel por direcionar o driver para a URL da aplicao configurada em
+	 * env.app.
+	 * 
+	 * @param webDriver
+	 */
+	static void openStartUrl(WebDriver webDriver) {
 		if (!(webDriver instanceof DriverIE)) {
-			String url = Utils.getProp("env.app." + Utils.getProp("env.app"));
-			webDriver.get(url);
+			webDriver.get(Config.get().getAppUrl());
 		}
+	}
 
-		return webDriver;
+	/**
+	 * Responsvel por aplicar nas opes do browser a estratgia de carregamento
+	 * de pgina (normal, eager ou none) configurada em browser.pageload.[browser].
+	 * Quando vazia, mantm o padro do driver (normal).
+	 * 
+	 * @param options - Opes do browser.
+	 * @param browser - Nome do browser (chrome, firefox, ie, remote, safari).
+	 */
+	static void setupPageLoadStrategy(MutableCapabilities options, String browser) {
+		String strategy = Config.get().get("browser.pageload." + browser);
+		if (strategy == null || strategy.trim().isEmpty()) {
+			return;
+		}
+
+		PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(strategy.trim().toLowerCase());
+		if (pageLoadStrategy == null) {
+			log.error("Estratgia de carregamento invlida [" + strategy + "], utilizando o padro.");
+			return;
+		}
+
+		options.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, pageLoadStrategy);
+		log.info("Estratgia de carregamento de pgina [" + pageLoadStrategy + "].");
 	}
 
 	/**
-	 * Responsvel por encerrar corretamente a sesso do driver
+	 * Responsvel por encerrar corretamente a sesso do driver. Sesses emprestadas
+	 * pelo pool so limpas e devolvidas ao invs de encerradas.
 	 * 
 	 * @param driver
 	 */
 	public static void finishDriver(WebDriver driver) {
+		NetworkBlocker.collect(driver);
+
+		if (DriverPool.isLeased(driver)) {
+			DriverPool.release(driver);
+			return;
+		}
+
 		try {
 			driver.quit();
 			log.info("Encerrando sesso do Driver.");
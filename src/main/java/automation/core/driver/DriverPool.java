@@ -0,0 +1,305 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por manter um conjunto de sesses de browser j iniciadas (pool),
+ * emprestando uma sesso por cenrio e reaproveitando-a aps uma limpeza, ao invs de encerrar o browser.
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import automation.core.utils.Config;
+import automation.logging.log4j.Log4JSetup;
+
+public class DriverPool {
+
+	private static Logger log = Log4JSetup.getLogger(DriverPool.class);
+
+	private static final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<PooledSession>();
+	private static final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<WebDriver, PooledSession>();
+	private static int created = 0;
+	private static boolean started = false;
+
+	// ******************************
+	// Configurao
+	// ******************************
+
+	/**
+	 * Verifica no arquivo setup.properties se o modo pool de sesses est ativo.
+	 *
+	 * @return boolean - true caso a propriedade browser.pool.enabled esteja
+	 *         preenchida.
+	 */
+	public static boolean isEnabled() {
+		return Config.get().isEnabled("browser.pool.enabled");
+	}
+
+	/**
+	 * Quantidade de sesses mantidas pelo pool.
+	 *
+	 * @return int - Valor de browser.pool.size (mnimo 1).
+	 */
+	private static int poolSize() {
+		return Math.max(1, Config.get().getInt("browser.pool.size", 1));
+	}
+
+	/**
+	 * Poltica de limpeza aplicada ao devolver uma sesso ao pool.
+	 *
+	 * @return List<String> - Itens de browser.pool.reset (cookies, storage,
+	 *         windows, url).
+	 */
+	private static List<String> resetPolicy() {
+		List<String> items = new ArrayList<String>();
+		for (String item : Config.get().getList("browser.pool.reset")) {
+			items.add(item.toLowerCase());
+		}
+		return items.isEmpty() ? Arrays.asList("cookies", "storage", "windows", "url") : items;
+	}
+
+	// ******************************
+	// Ciclo de vida
+	// ******************************
+
+	/**
+	 * Inicia antecipadamente, em paralelo, todas as sesses configuradas no pool.
+	 * Chamado automaticamente no primeiro emprstimo; as sesses ficam disponveis
+	 *  medida que cada browser termina de iniciar.
+	 */
+	public static void warmUp() {
+		int slots;
+		synchronized (DriverPool.class) {
+			if (started) {
+				return;
+			}
+			started = true;
+			Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown));
+			slots = poolSize() - created;
+			created += slots;
+		}
+
+		log.info("Iniciando pool de sesses com [" + slots + "] browsers.");
+		for (int i = 0; i < slots; i++) {
+			Thread launcher = new Thread(() -> {
+				try {
+					idle.offer(newSession());
+				} catch (RuntimeException e) {
+					log.error("Falha ao iniciar uma sesso do pool.");
+					e.printStackTrace();
+				}
+			}, "pool-warmup-" + i);
+			launcher.setDaemon(true);
+			launcher.start();
+		}
+	}
+
+	/**
+	 * Empresta uma sesso do pool. Caso todas as sesses estejam em uso, aguarda
+	 * at que alguma seja devolvida.
+	 *
+	 * @return WebDriver - Sesso pronta para uso, posicionada na URL inicial.
+	 * @throws WebDriverException - Caso a thread seja interrompida durante a
+	 *                            espera.
+	 */
+	public static WebDriver lease() {
+		warmUp();
+
+		PooledSession session = null;
+		try {
+			while (session == null) {
+				session = idle.poll();
+				if (session == null) {
+					session = createIfAvailable();
+				}
+				if (session == null) {
+					// Espera limitada: uma sesso que falhe ao iniciar libera a vaga para ser criada aqui.
+					session = idle.poll(1, TimeUnit.SECONDS);
+				}
+				if (session != null && SessionRecycler.isExpired(session.createdAt)) {
+					log.info("Sesso do pool excedeu a idade mxima, substituindo por uma nova.");
+					discard(session);
+					session = null;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("Interrompido enquanto aguardava uma sesso livre no pool.");
+			throw new WebDriverException("Interrompido enquanto aguardava uma sesso livre no pool.", e);
+		}
+
+		session.scenarios++;
+		leased.put(session.driver, session);
+		log.info("Sesso emprestada do pool.");
+		return session.driver;
+	}
+
+	/**
+	 * Verifica se o driver informado foi emprestado pelo pool.
+	 *
+	 * @param WebDriver - Driver a ser verificado.
+	 * @return boolean
+	 */
+	public static boolean isLeased(WebDriver driver) {
+		return driver != null && leased.containsKey(driver);
+	}
+
+	/**
+	 * Devolve uma sesso ao pool aplicando a poltica de limpeza. Caso a sesso
+	 * atinja algum limite do {@link SessionRecycler} ou qualquer verificao ou
+	 * limpeza falhe, a sesso  encerrada e substituda na prxima requisio.
+	 *
+	 * @param WebDriver - Driver emprestado anteriormente pelo pool.
+	 */
+	public static void release(WebDriver driver) {
+		PooledSession session = leased.remove(driver);
+		if (session == null) {
+			return;
+		}
+
+		try {
+			if (SessionRecycler.shouldRecycle(driver, session.createdAt, session.scenarios)) {
+				discard(session);
+				return;
+			}
+			reset(driver);
+			idle.offer(session);
+			log.info("Sesso devolvida ao pool.");
+		} catch (Exception e) {
+			log.error("Falha ao limpar a sesso do pool, encerrando o browser.");
+			discard(session);
+		}
+	}
+
+	/**
+	 * Encerra todas as sesses mantidas pelo pool.
+	 */
+	public static void shutdown() {
+		List<PooledSession> sessions = new ArrayList<PooledSession>(leased.values());
+		leased.clear();
+		idle.drainTo(sessions);
+		for (PooledSession session : sessions) {
+			discard(session);
+		}
+		log.info("Pool de sesses encerrado.");
+	}
+
+	// ******************************
+	// Sesses
+	// ******************************
+
+	/**
+	 * Apenas a reserva da vaga ocorre sob o lock; o browser  iniciado fora dele,
+	 * permitindo que vrios workers iniciem sesses ao mesmo tempo.
+	 */
+	private static PooledSession createIfAvailable() {
+		synchronized (DriverPool.class) {
+			if (created >= poolSize()) {
+				return null;
+			}
+			created++;
+		}
+		return newSession();
+	}
+
+	/**
+	 * Inicia o browser de uma vaga j reservada, liberando a vaga em caso de
+	 * falha.
+	 */
+	private static PooledSession newSession() {
+		try {
+			WebDriver driver = DriverManager.createDriver();
+			DriverManager.openStartUrl(driver);
+			return new PooledSession(driver);
+		} catch (RuntimeException e) {
+			freeSlot();
+			throw e;
+		}
+	}
+
+	private static synchronized void freeSlot() {
+		created--;
+	}
+
+	private static void discard(PooledSession session) {
+		freeSlot();
+		try {
+			session.driver.quit();
+		} catch (Exception e) {
+			log.error("No foi possvel encerrar a sesso descartada do pool.");
+		}
+	}
+
+	/**
+	 * Aplica a poltica de limpeza configurada em browser.pool.reset. A navegao
+	 * para a URL inicial ocorre antes da limpeza, para que cookies e storage sejam
+	 * apagados na origem da aplicao e no na ltima pgina do cenrio; a pgina
+	 *  ento recarregada j sem o estado anterior.
+	 *
+	 * @param WebDriver - Sesso a ser limpa.
+	 */
+	private static void reset(WebDriver driver) {
+		List<String> policy = resetPolicy();
+
+		if (policy.contains("windows")) {
+			Set<String> handles = driver.getWindowHandles();
+			String main = handles.iterator().next();
+			for (String handle : handles) {
+				if (!handle.equals(main)) {
+					driver.switchTo().window(handle).close();
+				}
+			}
+			driver.switchTo().window(main);
+		}
+
+		boolean url = policy.contains("url");
+		if (url) {
+			DriverManager.openStartUrl(driver);
+		}
+
+		boolean cleared = false;
+		if (policy.contains("cookies")) {
+			driver.manage().deleteAllCookies();
+			cleared = true;
+		}
+
+		if (policy.contains("storage") && driver instanceof JavascriptExecutor) {
+			((JavascriptExecutor) driver).executeScript(
+					"try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+			cleared = true;
+		}
+
+		if (url && cleared) {
+			driver.navigate().refresh();
+		}
+	}
+
+	/**
+	 * Sesso mantida pelo pool e o instante de sua criao.
+	 */
+	private static class PooledSession {
+
+		private final WebDriver driver;
+		private final long createdAt;
+		private int scenarios;
+
+		private PooledSession(WebDriver driver) {
+			this.driver = driver;
+			this.createdAt = System.currentTimeMillis();
+		}
+	}
+}
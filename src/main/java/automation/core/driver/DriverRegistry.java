@@ -0,0 +1,91 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por manter um nico driver por thread de execuo.
+ * Todas as pages criadas na mesma thread (cenrio) compartilham o mesmo browser.
+*/
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import automation.core.utils.WorkerContext;
+import automation.logging.log4j.Log4JSetup;
+
+public class DriverRegistry {
+
+	private static Logger log = Log4JSetup.getLogger(DriverRegistry.class);
+	private static final ThreadLocal<WebDriver> drivers = new ThreadLocal<WebDriver>();
+
+	// ******************************
+	// Getters
+	// ******************************
+
+	/**
+	 * Responsvel por retornar o driver da thread atual, criando um novo atravs do
+	 * {@link DriverManager} caso ainda no exista.
+	 *
+	 * @return WebDriver - Driver exclusivo da thread atual.
+	 */
+	public static WebDriver getDriver() {
+		WebDriver driver = drivers.get();
+		if (driver == null) {
+			WorkerContext.id();
+			driver = DriverManager.driverBuilder();
+			drivers.set(driver);
+			log.info("Driver registrado para a thread [" + Thread.currentThread().getName() + "].");
+		}
+		return driver;
+	}
+
+	/**
+	 * Responsvel por iniciar em segundo plano o driver da thread atual, para que a
+	 * inicializao do browser ocorra enquanto massas de dados e steps so
+	 * preparados. O driver  entregue na prxima chamada de {@link #getDriver()}.
+	 */
+	public static void prefetch() {
+		if (drivers.get() == null) {
+			DriverManager.prestartDriver();
+		}
+	}
+
+	/**
+	 * Verifica se o driver informado  o registrado na thread atual, ou seja, se
+	 * ainda no foi liberado.
+	 *
+	 * @param WebDriver - Driver a ser verificado.
+	 * @return boolean
+	 */
+	public static boolean isRegistered(WebDriver driver) {
+		return driver != null && drivers.get() == driver;
+	}
+
+	// ******************************
+	// Encerramento
+	// ******************************
+
+	/**
+	 * Responsvel por liberar o driver informado uma nica vez. Caso o driver seja
+	 * o registrado na thread atual, o registro  removido e o driver encaminhado ao
+	 * {@link DriverManager} para ser encerrado. Chamadas repetidas para o mesmo
+	 * driver so ignoradas.
+	 *
+	 * @param WebDriver - Driver a ser liberado.
+	 */
+	public static void release(WebDriver driver) {
+		if (!isRegistered(driver)) {
+			log.info("Driver j foi liberado anteriormente.");
+			return;
+		}
+
+		drivers.remove();
+		// Encerrado antes da antecipao: o geckodriver do worker atende uma sesso por vez.
+		DriverManager.finishDriver(driver);
+		if (DriverManager.isPrestartEnabled()) {
+			DriverManager.prestartDriver();
+		}
+	}
+}
@@ -19,6 +19,7 @@ import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+import automation.core.utils.Config;
 import automation.core.utils.Utils;
 import automation.logging.log4j.Log4JSetup;
 
@@ -33,13 +34,16 @@ public class DriverRemote implements BrowserInterface {
 
 	/**
 	 * Responsavel por criar e configurar corretamente o objeto remoto do tipo
-	 * ChromeDriver.
+	 * ChromeDriver. Os comandos so enviados pelo {@link RemoteTransport}, que
+	 * mantm conexes persistentes compartilhadas entre as sesses.
 	 */
 	public DriverRemote() {
 
 		try {
 			ChromeOptions options = setupBrowser();
-			driver = new RemoteWebDriver(new URL(Utils.getProp("browser.remote.url")), options);
+			URL remoteUrl = new URL(Config.get().get("browser.remote.url"));
+			driver = new RemoteWebDriver(RemoteTransport.executor(remoteUrl), options);
+			NetworkBlocker.apply(driver);
 			driver.manage().window().maximize();
 		} catch (Exception e) {
 			log.error("No foi possvel conectar o selenium hub chrome");
@@ -75,6 +79,9 @@ public class DriverRemote implements BrowserInterface {
 		chromePrefs.put("download.prompt_for_download", false);
 		chromePrefs.put("download.directory_upgrade", true);
 
+		NetworkBlocker.setupOptions(options);
+		DriverManager.setupPageLoadStrategy(options, "remote");
+
 		return options;
 	}
 
@@ -36,6 +36,7 @@ public class DriverSafari implements BrowserInterface {
 
 		SafariOptions safariOptions = new SafariOptions();
 		safariOptions.setCapability("safari.options.dataDir", Utils.binDownloadFolderPath() + File.separator);
+		DriverManager.setupPageLoadStrategy(safariOptions, "safari");
 
 		driver = new SafariDriver(safariOptions);
 
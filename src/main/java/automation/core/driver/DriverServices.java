@@ -0,0 +1,117 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por manter os executveis dos drivers (chromedriver, geckodriver)
+ * iniciados uma nica vez e compartilhados entre as sesses, evitando iniciar um novo processo a cada cenrio.
+*/
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+import automation.core.utils.Config;
+import automation.core.utils.Utils;
+import automation.core.utils.WorkerContext;
+import automation.logging.log4j.Log4JSetup;
+
+public class DriverServices {
+
+	private static Logger log = Log4JSetup.getLogger(DriverServices.class);
+	private static final Map<String, DriverService> services = new ConcurrentHashMap<String, DriverService>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(DriverServices::stopAll));
+	}
+
+	// ******************************
+	// Configurao
+	// ******************************
+
+	/**
+	 * Verifica no arquivo setup.properties se o modo de servio compartilhado est
+	 * ativo.
+	 *
+	 * @return boolean - true caso a propriedade browser.service.shared esteja
+	 *         preenchida.
+	 */
+	public static boolean isShared() {
+		return Config.get().isEnabled("browser.service.shared");
+	}
+
+	// ******************************
+	// Servios
+	// ******************************
+
+	/**
+	 * Retorna a URL do chromedriver compartilhado por toda a JVM, iniciando o
+	 * processo na primeira chamada.
+	 *
+	 * @return URL - Endereo do chromedriver em execuo.
+	 */
+	public static URL chrome() {
+		return start("chrome", () -> new ChromeDriverService.Builder()
+				.usingDriverExecutable(new File(Utils.binDriverPath("chrome"))).usingAnyFreePort().withSilent(true)
+				.build());
+	}
+
+	/**
+	 * Retorna a URL do geckodriver do worker atual, iniciando o processo na
+	 * primeira chamada. O geckodriver atende apenas uma sesso por vez, por isso 
+	 * mantido um processo por worker e a sesso anterior do worker deve ser
+	 * encerrada antes de criar a prxima. Sesses do {@link DriverPool}, que
+	 * coexistem na mesma thread, no utilizam este servio.
+	 *
+	 * @return URL - Endereo do geckodriver em execuo.
+	 */
+	public static URL firefox() {
+		return start("firefox-" + WorkerContext.name(), () -> new GeckoDriverService.Builder()
+				.usingDriverExecutable(new File(Utils.binDriverPath("firefox"))).usingAnyFreePort().build());
+	}
+
+	/**
+	 * Encerra todos os servios iniciados.
+	 */
+	public static void stopAll() {
+		for (DriverService service : services.values()) {
+			service.stop();
+		}
+		services.clear();
+		log.info("Servios de driver encerrados.");
+	}
+
+	private static URL start(String key, ServiceFactory factory) {
+		DriverService service = services.compute(key,
+				(k, current) -> current != null && current.isRunning() ? current : startService(k, factory));
+		return service.getUrl();
+	}
+
+	private static DriverService startService(String key, ServiceFactory factory) {
+		try {
+			DriverService service = factory.create();
+			service.start();
+			log.info("Servio de driver [" + key + "] iniciado em " + service.getUrl());
+			return service;
+		} catch (IOException e) {
+			log.error("No foi possvel iniciar o servio de driver [" + key + "].");
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Fbrica dos servios de driver.
+	 */
+	private interface ServiceFactory {
+		DriverService create() throws IOException;
+	}
+}
@@ -0,0 +1,127 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por construir uma nica vez o perfil do Firefox (compactado e codificado)
+ * e reutiliz-lo em todas as sesses, mantendo uma cpia em disco entre execues.
+ * O perfil  reconstrudo apenas quando as preferncias browser.firefox.pref.* ou a pasta de download mudam.
+*/
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.firefox.FirefoxProfile;
+
+import automation.core.utils.Config;
+import automation.logging.log4j.Log4JSetup;
+
+public class FirefoxProfileCache {
+
+	private static Logger log = Log4JSetup.getLogger(FirefoxProfileCache.class);
+	private static final String CACHE_FOLDER = "target" + File.separator + "firefox-profile";
+	private static final Map<String, String> payloads = new ConcurrentHashMap<String, String>();
+
+	// ******************************
+	// Perfil
+	// ******************************
+
+	/**
+	 * Responsvel por retornar o perfil do Firefox j codificado para a pasta de
+	 * download informada. O perfil  construdo apenas na primeira vez para cada
+	 * conjunto de preferncias e reaproveitado da memria ou do disco.
+	 *
+	 * @param String - Pasta de download da sesso.
+	 * @return FirefoxProfile - Perfil cujo contedo codificado j est pronto para
+	 *         envio ao geckodriver.
+	 */
+	public static FirefoxProfile getProfile(String downloadFolderPath) {
+		Map<String, String> preferences = new TreeMap<String, String>(Config.get().getByPrefix("browser.firefox.pref."));
+		preferences.put("browser.download.dir", downloadFolderPath);
+
+		String key = hash(preferences);
+		String payload = payloads.computeIfAbsent(key, k -> load(k, preferences));
+		return new CachedProfile(payload);
+	}
+
+	private static String load(String key, Map<String, String> preferences) {
+		File cache = new File(CACHE_FOLDER, key + ".profile");
+		try {
+			if (cache.isFile()) {
+				log.info("Reutilizando perfil do Firefox em cache [" + key + "].");
+				return new String(Files.readAllBytes(cache.toPath()), StandardCharsets.UTF_8);
+			}
+
+			FirefoxProfile profile = new FirefoxProfile();
+			for (Map.Entry<String, String> preference : preferences.entrySet()) {
+				setPreference(profile, preference.getKey(), preference.getValue());
+			}
+			String payload = profile.toJson();
+
+			cache.getParentFile().mkdirs();
+			Files.write(cache.toPath(), payload.getBytes(StandardCharsets.UTF_8));
+			log.info("Perfil do Firefox construdo e armazenado em cache [" + key + "].");
+			return payload;
+		} catch (IOException e) {
+			log.error("Falha ao construir o perfil do Firefox em cache.");
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Aplica a preferncia no perfil respeitando o tipo do valor (booleano,
+	 * inteiro ou texto).
+	 */
+	private static void setPreference(FirefoxProfile profile, String name, String value) {
+		String trimmed = value.trim();
+		if ("true".equalsIgnoreCase(trimmed) || "false".equalsIgnoreCase(trimmed)) {
+			profile.setPreference(name, Boolean.parseBoolean(trimmed));
+		} else if (trimmed.matches("-?\\d+")) {
+			profile.setPreference(name, Integer.parseInt(trimmed));
+		} else {
+			profile.setPreference(name, value);
+		}
+	}
+
+	private static String hash(Map<String, String> preferences) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			byte[] bytes = digest.digest(preferences.toString().getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b : bytes) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(preferences.hashCode());
+		}
+	}
+
+	/**
+	 * Perfil que devolve o contedo j compactado e codificado, evitando que o
+	 * Selenium gere novamente o zip do perfil a cada sesso.
+	 */
+	private static class CachedProfile extends FirefoxProfile {
+
+		private final String payload;
+
+		private CachedProfile(String payload) {
+			this.payload = payload;
+		}
+
+		@Override
+		public String toJson() {
+			return payload;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por bloquear, via DevTools, o carregamento de recursos que no interferem
+ * nas validaes (fontes, imagens, analytics, tags de terceiros) e contabilizar as requisies evitadas.
+*/
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import automation.core.utils.Config;
+import automation.logging.log4j.Log4JSetup;
+
+public class NetworkBlocker {
+
+	private static Logger log = Log4JSetup.getLogger(NetworkBlocker.class);
+	private static final Json json = new Json();
+
+	private static final AtomicLong blockedRequests = new AtomicLong();
+	private static final AtomicLong loadedRequests = new AtomicLong();
+	private static final AtomicLong loadedBytes = new AtomicLong();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(NetworkBlocker::report));
+	}
+
+	// ******************************
+	// Configurao
+	// ******************************
+
+	/**
+	 * Lista de padres de URL bloqueados, configurada em browser.block.urls
+	 * separados por vrgula. Aceita o curinga '*' (ex: *.woff2,
+	 * *google-analytics.com*).
+	 *
+	 * @return List<String> - Padres de URL a serem bloqueados.
+	 */
+	public static List<String> blockedUrls() {
+		return Config.get().getList("browser.block.urls");
+	}
+
+	/**
+	 * Verifica se existe algum padro de bloqueio configurado.
+	 *
+	 * @return boolean
+	 */
+	public static boolean isEnabled() {
+		return !blockedUrls().isEmpty();
+	}
+
+	/**
+	 * Verifica se a coleta de estatsticas de bloqueio est ativa
+	 * (browser.block.stats).
+	 *
+	 * @return boolean
+	 */
+	public static boolean isStatsEnabled() {
+		return isEnabled() && Config.get().isEnabled("browser.block.stats");
+	}
+
+	/**
+	 * Responsvel por habilitar nas opes do browser o log de performance, de
+	 * onde as estatsticas de bloqueio so extradas.
+	 *
+	 * @param MutableCapabilities - Opes do browser (ChromeOptions).
+	 */
+	public static void setupOptions(MutableCapabilities options) {
+		if (isStatsEnabled()) {
+			LoggingPreferences logPrefs = new LoggingPreferences();
+			logPrefs.enable(LogType.PERFORMANCE, Level.ALL);
+			options.setCapability("goog:loggingPrefs", logPrefs);
+		}
+	}
+
+	// ******************************
+	// Bloqueio
+	// ******************************
+
+	/**
+	 * Responsvel por aplicar a lista de bloqueio na sesso informada atravs dos
+	 * comandos Network.enable e Network.setBlockedURLs do DevTools.
+	 *
+	 * @param RemoteWebDriver - Sesso do Chrome recm criada.
+	 */
+	public static void apply(RemoteWebDriver driver) {
+		List<String> urls = blockedUrls();
+		if (urls.isEmpty()) {
+			return;
+		}
+
+		try {
+			Map<String, Object> params = new HashMap<String, Object>();
+			params.put("urls", urls);
+			DevTools.execute(driver, "Network.enable", new HashMap<String, Object>());
+			DevTools.execute(driver, "Network.setBlockedURLs", params);
+			log.info("Bloqueando [" + urls.size() + "] padres de URL na sesso.");
+		} catch (IOException e) {
+			log.error("No foi possvel aplicar a lista de bloqueio de URLs na sesso.");
+			e.printStackTrace();
+		}
+	}
+
+	// ******************************
+	// Estatsticas
+	// ******************************
+
+	/**
+	 * Responsvel por ler o log de performance da sesso e acumular a quantidade
+	 * de requisies bloqueadas e carregadas. Deve ser chamado antes de encerrar
+	 * ou devolver a sesso.
+	 *
+	 * @param WebDriver - Sesso a ser contabilizada.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void collect(WebDriver driver) {
+		if (!isStatsEnabled()) {
+			return;
+		}
+
+		try {
+			for (LogEntry entry : driver.manage().logs().get(LogType.PERFORMANCE)) {
+				Map<String, Object> message = (Map<String, Object>) json
+						.<Map<String, Object>>toType(entry.getMessage(), Json.MAP_TYPE).get("message");
+				String method = String.valueOf(message.get("method"));
+				Map<String, Object> params = (Map<String, Object>) message.get("params");
+
+				if ("Network.loadingFailed".equals(method) && params.get("blockedReason") != null) {
+					blockedRequests.incrementAndGet();
+				} else if ("Network.loadingFinished".equals(method)) {
+					loadedRequests.incrementAndGet();
+					loadedBytes.addAndGet(((Number) params.get("encodedDataLength")).longValue());
+				}
+			}
+		} catch (Exception e) {
+			log.error("No foi possvel obter as estatsticas de bloqueio da sesso.");
+		}
+	}
+
+	/**
+	 * Registra no log o resumo das requisies evitadas durante a execuo. Os
+	 * bytes evitados no podem ser medidos (a requisio nunca acontece), por isso
+	 *  informado o volume efetivamente trafegado para comparao.
+	 */
+	public static void report() {
+		if (!isStatsEnabled()) {
+			return;
+		}
+
+		log.info(String.format("Bloqueio de rede: [%d] requisies evitadas, [%d] requisies carregadas (%d bytes).",
+				blockedRequests.get(), loadedRequests.get(), loadedBytes.get()));
+	}
+}
@@ -0,0 +1,224 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel pelo transporte HTTP dos comandos WebDriver enviados ao selenium hub (DriverRemote).
+ * Mantm conexes persistentes num pool compartilhado entre as sesses, timeouts configurveis
+ * e mtricas de latncia por comando.
+*/
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.internal.OkHttpClient;
+
+import automation.core.utils.Config;
+import automation.logging.log4j.Log4JSetup;
+import okhttp3.ConnectionPool;
+
+public class RemoteTransport {
+
+	private static Logger log = Log4JSetup.getLogger(RemoteTransport.class);
+	private static final Map<String, CommandLatency> latencies = new ConcurrentHashMap<String, CommandLatency>();
+	private static final Map<String, LongAdder> sessionCommands = new ConcurrentHashMap<String, LongAdder>();
+	private static final Pattern SESSION = Pattern.compile("^/session/([^/]+)");
+	private static ConnectionPool pool;
+	private static HttpClient.Factory factory;
+	private static int connectTimeoutSeconds;
+	private static int readTimeoutSeconds;
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(RemoteTransport::report));
+	}
+
+	// ******************************
+	// Fbrica
+	// ******************************
+
+	/**
+	 * Responsvel por retornar a fbrica de clientes HTTP compartilhada por todas
+	 * as sesses remotas. Todas as conexes reutilizam o mesmo pool (keep-alive)
+	 * configurado em browser.remote.pool.* e browser.remote.timeout.*.
+	 *
+	 * @return HttpClient.Factory - Fbrica para o HttpCommandExecutor.
+	 */
+	public static synchronized HttpClient.Factory factory() {
+		if (factory == null) {
+			Config config = Config.get();
+			pool = new ConnectionPool(config.getInt("browser.remote.pool.maxIdle", 10),
+					config.getInt("browser.remote.pool.keepAlive", 300), TimeUnit.SECONDS);
+			connectTimeoutSeconds = config.getInt("browser.remote.timeout.connect", 10);
+			readTimeoutSeconds = config.getInt("browser.remote.timeout.read", 180);
+			factory = new PooledFactory();
+			log.info("Transporte remoto configurado com pool de conexes persistentes.");
+		}
+		return factory;
+	}
+
+	/**
+	 * Quantidade de conexes mantidas no pool compartilhado.
+	 *
+	 * @return int - Conexes abertas (zero antes da primeira sesso remota).
+	 */
+	static synchronized int openConnections() {
+		return pool == null ? 0 : pool.connectionCount();
+	}
+
+	/**
+	 * Responsvel por criar o executor de comandos para o endereo informado
+	 * utilizando o transporte compartilhado.
+	 *
+	 * @param URL - Endereo do selenium hub ou do servio de driver.
+	 * @return HttpCommandExecutor - Executor para o RemoteWebDriver.
+	 */
+	public static HttpCommandExecutor executor(URL url) {
+		return new HttpCommandExecutor(Collections.<String, CommandInfo>emptyMap(), url, factory());
+	}
+
+	/**
+	 * Fbrica que cria clientes OkHttp compartilhando o mesmo pool de conexes.
+	 */
+	private static class PooledFactory implements HttpClient.Factory {
+
+		@Override
+		public HttpClient.Builder builder() {
+			return new HttpClient.Builder() {
+				@Override
+				public HttpClient createClient(URL url) {
+					okhttp3.OkHttpClient client = new okhttp3.OkHttpClient.Builder().connectionPool(pool)
+							.connectTimeout(connectTimeoutSeconds, TimeUnit.SECONDS)
+							.readTimeout(readTimeoutSeconds, TimeUnit.SECONDS)
+							.writeTimeout(readTimeoutSeconds, TimeUnit.SECONDS)
+							.retryOnConnectionFailure(true).followRedirects(true).build();
+					return new MeasuredClient(new OkHttpClient(client, url));
+				}
+			};
+		}
+
+		@Override
+		public void cleanupIdleClients() {
+			pool.evictAll();
+		}
+	}
+
+	// ******************************
+	// Mtricas
+	// ******************************
+
+	/**
+	 * Cliente que registra a latncia de cada comando enviado.
+	 */
+	private static class MeasuredClient implements HttpClient {
+
+		private final HttpClient delegate;
+
+		private MeasuredClient(HttpClient delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public HttpResponse execute(HttpRequest request) throws IOException {
+			long start = System.nanoTime();
+			try {
+				return delegate.execute(request);
+			} finally {
+				record(request.getMethod(), request.getUri(), System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Agrupa a URI pelo comando, removendo identificadores de sesso e elementos
+	 * (ex: POST /session/{id}/element/{id}/click).
+	 */
+	private static void record(HttpMethod method, String uri, long nanos) {
+		String command = method + " " + uri.replaceAll("/session/[^/]+", "/session/{id}")
+				.replaceAll("/element/[^/]+", "/element/{id}");
+		latencies.computeIfAbsent(command, k -> new CommandLatency()).add(nanos);
+
+		Matcher session = SESSION.matcher(uri);
+		if (session.find()) {
+			if (method == HttpMethod.DELETE && uri.equals(session.group())) {
+				sessionCommands.remove(session.group(1));
+			} else {
+				sessionCommands.computeIfAbsent(session.group(1), k -> new LongAdder()).increment();
+			}
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de comandos j atendidos por uma sesso.
+	 *
+	 * @param String - Identificador da sesso.
+	 * @return long - Quantidade de comandos enviados.
+	 */
+	public static long commandsServed(String sessionId) {
+		LongAdder commands = sessionCommands.get(sessionId);
+		return commands == null ? 0 : commands.sum();
+	}
+
+	/**
+	 * Retorna a latncia acumulada por comando.
+	 *
+	 * @return Map<String, String> - Comando e resumo (quantidade, mdia e mximo em
+	 *         ms).
+	 */
+	public static Map<String, String> metrics() {
+		Map<String, String> result = new TreeMap<String, String>();
+		for (Map.Entry<String, CommandLatency> entry : latencies.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().toString());
+		}
+		return result;
+	}
+
+	/**
+	 * Registra no log a latncia por comando acumulada durante a execuo.
+	 */
+	public static void report() {
+		for (Map.Entry<String, String> entry : metrics().entrySet()) {
+			log.info("Latncia [" + entry.getKey() + "] " + entry.getValue());
+		}
+	}
+
+	/**
+	 * Contadores de latncia de um comando.
+	 */
+	private static class CommandLatency {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final AtomicLong max = new AtomicLong();
+
+		private void add(long nanos) {
+			count.increment();
+			total.add(nanos);
+			max.accumulateAndGet(nanos, Math::max);
+		}
+
+		@Override
+		public String toString() {
+			long calls = count.sum();
+			double avg = calls == 0 ? 0 : total.sum() / (double) calls / 1_000_000;
+			return String.format("chamadas=%d media=%.2fms max=%.2fms", calls, avg, max.get() / 1_000_000.0);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package automation.core.driver;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel pela poltica de reciclagem das sesses reaproveitadas pelo pool.
+ * Avalia entre um cenrio e outro se a sesso deve ser substituda por uma nova, evitando a
+ * degradao do browser em execues longas.
+*/
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import automation.core.utils.Config;
+import automation.logging.log4j.Log4JSetup;
+
+public class SessionRecycler {
+
+	private static Logger log = Log4JSetup.getLogger(SessionRecycler.class);
+	private static final AtomicBoolean untrackedCommandsWarned = new AtomicBoolean();
+
+	// ******************************
+	// Poltica
+	// ******************************
+
+	/**
+	 * Responsvel por decidir se a sesso deve ser reciclada. Os limites so
+	 * configurados em setup.properties e o valor 0 (ou vazio) desabilita o
+	 * critrio:
+	 *
+	 * browser.recycle.maxScenarios - cenrios atendidos pela sesso;
+	 * browser.recycle.maxCommands - comandos WebDriver atendidos. Apenas sesses
+	 * que utilizam o {@link RemoteTransport} (DriverRemote ou
+	 * browser.service.shared) so contabilizadas; para drivers locais o critrio
+	 * no se aplica e um aviso  registrado;
+	 * browser.recycle.maxHeapMb - heap JS utilizado pela pgina (Chrome);
+	 * browser.pool.maxAge - idade da sesso em segundos.
+	 *
+	 * @param WebDriver - Sesso a ser avaliada.
+	 * @param long      - Instante de criao da sesso (ms).
+	 * @param int       - Quantidade de cenrios j atendidos.
+	 * @return boolean - true caso algum limite tenha sido atingido.
+	 */
+	public static boolean shouldRecycle(WebDriver driver, long createdAt, int scenarios) {
+		Config config = Config.get();
+		if (driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() == null) {
+			return recycle("sesso j encerrada");
+		}
+		if (isExpired(createdAt)) {
+			return recycle("idade da sesso excedida");
+		}
+
+		long maxScenarios = config.getLong("browser.recycle.maxScenarios", 0);
+		if (maxScenarios > 0 && scenarios >= maxScenarios) {
+			return recycle("limite de cenrios atingido [" + scenarios + "]");
+		}
+
+		long maxCommands = config.getLong("browser.recycle.maxCommands", 0);
+		if (maxCommands > 0 && driver instanceof RemoteWebDriver) {
+			String sessionId = ((RemoteWebDriver) driver).getSessionId().toString();
+			long commands = RemoteTransport.commandsServed(sessionId);
+			if (commands >= maxCommands) {
+				return recycle("limite de comandos atingido [" + commands + "]");
+			}
+			if (commands == 0 && untrackedCommandsWarned.compareAndSet(false, true)) {
+				log.error("browser.recycle.maxCommands ignorado: a sesso no utiliza o RemoteTransport.");
+			}
+		}
+
+		long maxHeap = config.getLong("browser.recycle.maxHeapMb", 0);
+		if (maxHeap > 0) {
+			long heap = usedHeapMb(driver);
+			if (heap >= maxHeap) {
+				return recycle("heap JS excedido [" + heap + " MB]");
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Verifica se a sesso excedeu a idade mxima configurada em
+	 * browser.pool.maxAge (segundos, 0 ou vazio desabilita).
+	 *
+	 * @param long - Instante de criao da sesso (ms).
+	 * @return boolean
+	 */
+	public static boolean isExpired(long createdAt) {
+		long maxAge = TimeUnit.SECONDS.toMillis(Config.get().getLong("browser.pool.maxAge", 0));
+		return maxAge > 0 && System.currentTimeMillis() - createdAt > maxAge;
+	}
+
+	/**
+	 * Obtm o heap JS utilizado pela pgina atravs de performance.memory
+	 * (disponvel apenas em browsers baseados em Chromium).
+	 *
+	 * @param WebDriver - Sesso a ser avaliada.
+	 * @return long - Heap utilizado em MB, ou 0 caso no esteja disponvel.
+	 */
+	public static long usedHeapMb(WebDriver driver) {
+		try {
+			Object heap = ((JavascriptExecutor) driver).executeScript(
+					"return window.performance && performance.memory ? performance.memory.usedJSHeapSize : 0;");
+			return heap instanceof Number ? ((Number) heap).longValue() / (1024 * 1024) : 0;
+		} catch (Exception e) {
+			return 0;
+		}
+	}
+
+	private static boolean recycle(String reason) {
+		log.info("Reciclando sesso do pool: " + reason + ".");
+		return true;
+	}
+}
@@ -0,0 +1,450 @@
+package automation.core.utils;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Fotografia imutvel das configuraes da automao. O setup.properties  lido uma nica vez a partir
+ * de src/main/resources (como o log4j.properties do Log4JSetup) ou do classpath e sobreposto pelas variveis
+ * de ambiente (ex: ENV_APP para env.app) e pelas propriedades de sistema (ex: -Denv.app=ppd). Aps criada,
+ * a instncia nunca  alterada e pode ser lida por qualquer quantidade de threads sem sincronizao. Com
+ * config.watch ativo, alteraes no arquivo geram uma nova instncia, publicada atomicamente sem reiniciar
+ * a JVM (e os browsers j aquecidos).
+*/
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.log4j.Logger;
+
+import automation.logging.log4j.Log4JSetup;
+
+public final class Config {
+
+	private static final String FILE = "setup.properties";
+	private static final String FILE_PROPERTY = "config.file";
+	private static final String RESOURCES = "src" + File.separator + "main" + File.separator + "resources";
+	private static final long DEBOUNCE_MILLIS = 300;
+
+	private static volatile Config current = load();
+	// Obtido aps a primeira leitura: o Log4JSetup consulta esta classe ao se configurar.
+	private static Logger log = Log4JSetup.getLogger(Config.class);
+	private static Thread watcher;
+
+	static {
+		if (current.source == null) {
+			log.error("Falha ao obter as Properties de Configurao, verifique se o arquivo existe.");
+		}
+		if (current.isEnabled("config.watch")) {
+			watch();
+		}
+	}
+
+	private final Map<String, String> values;
+	private final String source;
+	private final String browser;
+	private final boolean headless;
+	private final String appUrl;
+	private final String driverRoot;
+	private final String driverExtension;
+
+	private Config(Map<String, String> values, String source) {
+		this.values = Collections.unmodifiableMap(new HashMap<String, String>(values));
+		this.source = source;
+		this.browser = get("browser.name");
+		this.headless = isEnabled("browser.mode.headless");
+		this.appUrl = get("env.app." + get("env.app"));
+
+		boolean linux = System.getProperty("os.name").toLowerCase().contains("linux");
+		String root = get("browser.path.root", "");
+		this.driverRoot = root.replace("OS_SYSTEM", linux ? "linux" : "windows");
+		String extension = get("browser.mode.extension", "");
+		this.driverExtension = extension.isEmpty() && !linux ? ".exe" : extension;
+	}
+
+	// ******************************
+	// Instncia
+	// ******************************
+
+	/**
+	 * Retorna a configurao vigente. Quem precisar de vrios valores coerentes
+	 * entre si deve obter a instncia uma nica vez e ler todos a partir dela.
+	 *
+	 * @return Config - Configurao imutvel.
+	 */
+	public static Config get() {
+		return current;
+	}
+
+	/**
+	 * Rel o setup.properties e publica a nova configurao caso algum valor tenha
+	 * mudado. Em caso de falha na leitura, ou de arquivo vazio (ex: gravao em
+	 * andamento), a configurao atual  mantida. Instncias j obtidas por
+	 * {@link #get()} no so alteradas.
+	 *
+	 * @return boolean - true caso uma nova configurao tenha sido publicada.
+	 */
+	public static synchronized boolean reload() {
+		Config previous = current;
+		Config next;
+		try {
+			next = read();
+		} catch (IOException e) {
+			log.error("Falha ao recarregar as Properties de Configurao, mantendo a configurao atual.");
+			e.printStackTrace();
+			return false;
+		}
+
+		if (next.values.isEmpty() || next.values.equals(previous.values)) {
+			return false;
+		}
+		current = next;
+		log.info("Configurao recarregada de [" + next.source + "], propriedades alteradas: "
+				+ changes(previous, next));
+		return true;
+	}
+
+	/**
+	 * Inicia a thread que observa o setup.properties e recarrega a configurao a
+	 * cada alterao. Executado automaticamente quando config.watch est ativo.
+	 * Apenas arquivos em disco podem ser observados (no dentro de um jar); para
+	 * observar o arquivo editvel ao invs da cpia em target/classes, informe
+	 * -Dconfig.file.
+	 */
+	public static synchronized void watch() {
+		if (watcher != null) {
+			return;
+		}
+
+		File file = file(current.source);
+		if (file == null) {
+			log.error("Configurao [" + current.source + "] no est em disco, recarga automtica desativada.");
+			return;
+		}
+
+		watcher = new Thread(() -> observe(file), "config-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+		log.info("Observando alteraes em [" + file.getPath() + "].");
+	}
+
+	/**
+	 * Origem do setup.properties utilizado (config.file, src/main/resources ou
+	 * classpath).
+	 *
+	 * @return String - Endereo do arquivo de configurao.
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	// ******************************
+	// Valores
+	// ******************************
+
+	/**
+	 * Retorna o valor de uma propriedade.
+	 *
+	 * @param String - Nome da propriedade.
+	 * @return String - Valor da propriedade ou null caso no exista.
+	 */
+	public String get(String prop) {
+		return values.get(prop);
+	}
+
+	/**
+	 * Retorna o valor de uma propriedade, ou o padro caso ela no exista.
+	 *
+	 * @param String - Nome da propriedade.
+	 * @param String - Valor padro.
+	 * @return String - Valor da propriedade.
+	 */
+	public String get(String prop, String defaultValue) {
+		String value = values.get(prop);
+		return value == null ? defaultValue : value;
+	}
+
+	/**
+	 * Verifica se uma propriedade est ativa, ou seja, preenchida.
+	 *
+	 * @param String - Nome da propriedade.
+	 * @return boolean
+	 */
+	public boolean isEnabled(String prop) {
+		String value = values.get(prop);
+		return value != null && !value.isEmpty();
+	}
+
+	/**
+	 * Retorna o valor inteiro de uma propriedade.
+	 *
+	 * @param String - Nome da propriedade.
+	 * @param int    - Valor padro, utilizado quando vazia ou invlida.
+	 * @return int
+	 */
+	public int getInt(String prop, int defaultValue) {
+		return (int) getLong(prop, defaultValue);
+	}
+
+	/**
+	 * Retorna o valor inteiro longo de uma propriedade.
+	 *
+	 * @param String - Nome da propriedade.
+	 * @param long   - Valor padro, utilizado quando vazia ou invlida.
+	 * @return long
+	 */
+	public long getLong(String prop, long defaultValue) {
+		String value = get(prop, "").trim();
+		try {
+			return value.isEmpty() ? defaultValue : Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			log.error("Valor invlido para a propriedade [" + prop + "], utilizando o padro [" + defaultValue + "].");
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Retorna o valor decimal de uma propriedade.
+	 *
+	 * @param String - Nome da propriedade.
+	 * @param double - Valor padro, utilizado quando vazia ou invlida.
+	 * @return double
+	 */
+	public double getDouble(String prop, double defaultValue) {
+		String value = get(prop, "").trim();
+		try {
+			return value.isEmpty() ? defaultValue : Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			log.error("Valor invlido para a propriedade [" + prop + "], utilizando o padro [" + defaultValue + "].");
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Retorna os itens de uma propriedade separados por vrgula, sem espaos e sem
+	 * itens vazios.
+	 *
+	 * @param String - Nome da propriedade.
+	 * @return List<String> - Itens da propriedade (vazia caso no exista).
+	 */
+	public List<String> getList(String prop) {
+		List<String> items = new ArrayList<String>();
+		for (String item : get(prop, "").split(",")) {
+			if (!item.trim().isEmpty()) {
+				items.add(item.trim());
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Retorna todas as propriedades que iniciam com o prefixo informado, ordenadas
+	 * pelo nome.
+	 *
+	 * @param String - Prefixo das propriedades (ex: browser.firefox.pref.).
+	 * @return Map<String, String> - Nome da propriedade sem o prefixo e seu valor.
+	 */
+	public Map<String, String> getByPrefix(String prefix) {
+		Map<String, String> result = new TreeMap<String, String>();
+		for (Map.Entry<String, String> entry : values.entrySet()) {
+			if (entry.getKey().startsWith(prefix)) {
+				result.put(entry.getKey().substring(prefix.length()), entry.getValue());
+			}
+		}
+		return result;
+	}
+
+	// ******************************
+	// Valores do Browser
+	// ******************************
+
+	/**
+	 * Browser configurado em browser.name.
+	 *
+	 * @return String
+	 */
+	public String getBrowser() {
+		return browser;
+	}
+
+	/**
+	 * Verifica se o browser deve ser executado sem interface (browser.mode.headless).
+	 *
+	 * @return boolean
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	/**
+	 * URL da aplicao do ambiente configurado em env.app.
+	 *
+	 * @return String
+	 */
+	public String getAppUrl() {
+		return appUrl;
+	}
+
+	/**
+	 * Pasta raiz dos drivers web de acordo com o S.O.
+	 *
+	 * @return String
+	 */
+	public String getDriverRoot() {
+		return driverRoot;
+	}
+
+	/**
+	 * Extenso dos executveis dos drivers web de acordo com o S.O.
+	 *
+	 * @return String
+	 */
+	public String getDriverExtension() {
+		return driverExtension;
+	}
+
+	// ******************************
+	// Carregamento
+	// ******************************
+
+	private static Config load() {
+		try {
+			return read();
+		} catch (IOException e) {
+			// Registrado no log aps a inicializao, o Logger ainda no est disponvel.
+			e.printStackTrace();
+			return new Config(new HashMap<String, String>(), null);
+		}
+	}
+
+	/**
+	 * L o arquivo informado em -Dconfig.file ou, na ausncia dele, o
+	 * setup.properties de src/main/resources e por ltimo o do classpath. O
+	 * arquivo de src  preferido para que a recarga automtica observe o arquivo
+	 * editado, e no a cpia gerada em target/classes.
+	 */
+	private static Config read() throws IOException {
+		URL resource;
+		String path = System.getProperty(FILE_PROPERTY, "").trim();
+		File file = new File(System.getProperty("user.dir") + File.separator + RESOURCES + File.separator + FILE);
+		if (!path.isEmpty()) {
+			resource = new File(path).toURI().toURL();
+		} else if (file.isFile()) {
+			resource = file.toURI().toURL();
+		} else if (Config.class.getClassLoader().getResource(FILE) != null) {
+			resource = Config.class.getClassLoader().getResource(FILE);
+		} else {
+			throw new FileNotFoundException("Arquivo [" + FILE + "] no encontrado em [" + file.getPath()
+					+ "] nem no classpath.");
+		}
+
+		Properties properties = new Properties();
+		try (InputStream in = resource.openStream()) {
+			properties.load(in);
+		}
+		return new Config(overlay(properties), resource.toString());
+	}
+
+	/**
+	 * Sobrepe os valores do arquivo pelas variveis de ambiente (nome em
+	 * maisculas com '.' e '-' trocados por '_') e, por ltimo, pelas propriedades
+	 * de sistema de mesmo nome. Apenas propriedades existentes no arquivo so
+	 * sobrepostas.
+	 */
+	private static Map<String, String> overlay(Properties properties) {
+		Map<String, String> values = new HashMap<String, String>();
+		for (String prop : properties.stringPropertyNames()) {
+			String value = properties.getProperty(prop);
+			String env = System.getenv(prop.toUpperCase().replace('.', '_').replace('-', '_'));
+			if (env != null) {
+				value = env;
+			}
+			values.put(prop, System.getProperty(prop, value));
+		}
+		return values;
+	}
+
+	// ******************************
+	// Recarga
+	// ******************************
+
+	private static void observe(File file) {
+		Path folder = file.getAbsoluteFile().getParentFile().toPath();
+		try (WatchService service = folder.getFileSystem().newWatchService()) {
+			folder.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+			while (!Thread.currentThread().isInterrupted()) {
+				WatchKey key = service.take();
+				boolean changed = false;
+				for (WatchEvent<?> event : key.pollEvents()) {
+					changed |= file.getName().equals(String.valueOf(event.context()));
+				}
+				if (!key.reset()) {
+					log.error("Pasta [" + folder + "] no pode mais ser observada, recarga automtica encerrada.");
+					return;
+				}
+
+				if (changed) {
+					// Aguarda o fim da gravao: editores costumam gerar vrios eventos seguidos.
+					Thread.sleep(DEBOUNCE_MILLIS);
+					for (WatchKey pending = service.poll(); pending != null; pending = service.poll()) {
+						pending.pollEvents();
+						pending.reset();
+					}
+					reload();
+				}
+			}
+		} catch (IOException e) {
+			log.error("Falha ao observar o arquivo de configurao [" + file.getPath() + "].");
+			e.printStackTrace();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static File file(String source) {
+		try {
+			URL url = source == null ? null : new URL(source);
+			return url != null && "file".equals(url.getProtocol()) ? new File(url.toURI()) : null;
+		} catch (IOException | URISyntaxException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Nomes das propriedades alteradas, includas ou removidas. Os valores no so
+	 * registrados por poderem conter credenciais.
+	 */
+	private static Set<String> changes(Config previous, Config next) {
+		Set<String> changed = new TreeSet<String>();
+		for (String prop : next.values.keySet()) {
+			if (!next.values.get(prop).equals(previous.values.get(prop))) {
+				changed.add(prop);
+			}
+		}
+		for (String prop : previous.values.keySet()) {
+			if (!next.values.containsKey(prop)) {
+				changed.add(prop);
+			}
+		}
+		return changed;
+	}
+}
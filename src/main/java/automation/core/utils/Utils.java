@@ -11,13 +11,10 @@ package automation.core.utils;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
-import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Properties;
 import java.util.TimeZone;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,7 +25,6 @@ import automation.logging.log4j.Log4JSetup;
 
 public class Utils {
 
-	private static Properties props;
 	private static Logger log = Log4JSetup.getLogger(Utils.class);
 
 	// ******************************
@@ -36,33 +32,15 @@ public class Utils {
 	// ******************************
 
 	/**
-	 * Mtodo pblico para retorno das properties do arquivo setup.properties
+	 * Mtodo pblico para retorno das properties do arquivo setup.properties,
+	 * j sobrepostas pelas variveis de ambiente e propriedades de sistema (ver
+	 * {@link Config}).
 	 * 
 	 * @param String - nome da propriedade desejada.
 	 * @return String - Valor da Property
 	 */
 	public static String getProp(String prop) {
-		props = getProp();
-
-		return props.getProperty(prop);
-	}
-
-	/**
-	 * Mtodo privado que obtm um objeto do tipo Property vlido.
-	 * 
-	 * @return Properties - Instncia de um Objeto Property
-	 */
-	private static Properties getProp() {
-		if (props == null) {
-			props = new Properties();
-			try {
-				props.load(new FileInputStream(".\\src\\main\\resources\\setup.properties"));
-			} catch (IOException e) {
-				log.error("Falha ao obter as Properties de Configurao, verifique se o arquivo existe.");
-				e.printStackTrace();
-			}
-		}
-		return props;
+		return Config.get().get(prop);
 	}
 
 	// ******************************
@@ -76,39 +54,23 @@ public class Utils {
 	 * @return String - Endereo da Pasta de raiz dos drivers de acordo com o S.O.
 	 */
 	public static String binOSPath() {
-
-		String binOSPath = Utils.getProp("browser.path.root");
-
-		CharSequence oldChar = "OS_SYSTEM";
-		CharSequence newChar = "windows";
-
-		if (System.getProperty("os.name").toLowerCase().contains("linux")) {
-			newChar = "linux";
-		} else {
-			props.setProperty("browser.mode.extension", ".exe");
-		}
-
-		return binOSPath.replace(oldChar, newChar);
+		return Config.get().getDriverRoot();
 	}
 
 	/**
 	 * Mtodo pblico que retorna o endereo da pasta onde os downloads, feitos
-	 * durante a automao web, sero armazenados.
+	 * durante a automao web, sero armazenados. Em execues paralelas cada
+	 * worker possui sua prpria subpasta.
 	 * 
 	 * @return String - Endereo da Pasta de Downloads de acordo com o S.O.
 	 */
 	public static String binDownloadFolderPath() {
-
-		String binOSPath = Utils.getProp("browser.path.root");
-
-		CharSequence oldChar = "OS_SYSTEM";
-		CharSequence newChar = "windows";
-
-		if (System.getProperty("os.name").toLowerCase().contains("linux")) {
-			newChar = "linux";
+		String downloadFolder = Config.get().getDriverRoot() + "downloads";
+		if (WorkerContext.isParallel()) {
+			downloadFolder += File.separator + WorkerContext.name();
 		}
 
-		return binOSPath.replace(oldChar, newChar) + "downloads";
+		return downloadFolder;
 	}
 
 	/**
@@ -119,8 +81,8 @@ public class Utils {
 	 * @return String - Endereo do driver web de acordo com o S.O.
 	 */
 	public static String binDriverPath(String browser) {
-		String root = Utils.binOSPath();
-		return root + Utils.getProp("browser.path." + browser) + Utils.getProp("browser.mode.extension");
+		Config config = Config.get();
+		return config.getDriverRoot() + config.get("browser.path." + browser) + config.getDriverExtension();
 	}
 
 	// ******************************
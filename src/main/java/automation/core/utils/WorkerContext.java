@@ -0,0 +1,86 @@
+package automation.core.utils;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Classe Esttica responsvel por identificar cada thread (worker) de uma execuo paralela,
+ * para separar pastas de download, nomes de evidncias e o contexto dos logs.
+*/
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.MDC;
+
+public class WorkerContext {
+
+	private static final AtomicInteger counter = new AtomicInteger();
+	private static final ThreadLocal<Integer> workerId = new ThreadLocal<Integer>();
+
+	// ******************************
+	// Configurao
+	// ******************************
+
+	/**
+	 * Quantidade de workers configurada em run.parallel.threads.
+	 *
+	 * @return int - Quantidade de threads (mnimo 1).
+	 */
+	public static int threads() {
+		return Math.max(1, Config.get().getInt("run.parallel.threads", 1));
+	}
+
+	/**
+	 * Verifica se a execuo est configurada para rodar em paralelo.
+	 *
+	 * @return boolean - true caso run.parallel.threads seja maior que 1.
+	 */
+	public static boolean isParallel() {
+		return threads() > 1;
+	}
+
+	// ******************************
+	// Identificao
+	// ******************************
+
+	/**
+	 * Responsvel por registrar a thread atual como um worker, atribuindo um
+	 * identificador nico e publicando-o no contexto dos logs (MDC "worker").
+	 *
+	 * @return int - Identificador do worker da thread atual.
+	 */
+	public static int id() {
+		Integer id = workerId.get();
+		if (id == null) {
+			id = counter.incrementAndGet();
+			workerId.set(id);
+			MDC.put("worker", name(id));
+		}
+		return id;
+	}
+
+	/**
+	 * Responsvel por associar a thread atual a um worker j existente. Utilizado
+	 * por tarefas em segundo plano que trabalham em nome de outro worker.
+	 *
+	 * @param int - Identificador do worker.
+	 */
+	public static void bind(int id) {
+		workerId.set(id);
+		MDC.put("worker", name(id));
+	}
+
+	/**
+	 * Nome do worker da thread atual, utilizado em pastas e arquivos.
+	 *
+	 * @return String - Nome no formato worker-N.
+	 */
+	public static String name() {
+		return name(id());
+	}
+
+	private static String name(int id) {
+		return "worker-" + id;
+	}
+}
@@ -0,0 +1,127 @@
+package automation.logging.log4j;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Appender assncrono com buffer circular limitado. As threads dos cenrios apenas enfileiram o evento
+ * (nunca aguardam escrita em console ou disco); uma thread dedicada repassa os eventos aos appenders
+ * configurados. Com o buffer cheio o evento  descartado e a quantidade descartada  registrada depois.
+*/
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.spi.LoggingEvent;
+
+public class AsyncRingAppender extends ForwardingAppender {
+
+	private static final int BATCH_SIZE = 256;
+
+	private final BlockingQueue<LoggingEvent> buffer;
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong pending = new AtomicLong();
+	private final Thread writer;
+
+	/**
+	 * Cria o appender com a capacidade informada e inicia a thread de escrita.
+	 *
+	 * @param int - Quantidade mxima de eventos aguardando escrita.
+	 */
+	public AsyncRingAppender(int capacity) {
+		this.buffer = new ArrayBlockingQueue<LoggingEvent>(Math.max(1, capacity));
+		this.writer = new Thread(this::drain, "log-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	// ******************************
+	// Enfileiramento
+	// ******************************
+
+	/**
+	 * Captura o contexto do evento e o enfileira sem bloquear.
+	 */
+	@Override
+	protected void append(LoggingEvent event) {
+		capture(event);
+		pending.incrementAndGet();
+		if (!buffer.offer(event)) {
+			pending.decrementAndGet();
+			dropped.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Aguarda a escrita dos eventos j enfileirados (inclusive os que esto sendo
+	 * escritos), limitado ao tempo informado.
+	 *
+	 * @param long - Tempo mximo em ms.
+	 */
+	public void flush(long timeoutMillis) {
+		long limit = System.currentTimeMillis() + timeoutMillis;
+		while (pending.get() > 0 && System.currentTimeMillis() < limit) {
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// ******************************
+	// Escrita
+	// ******************************
+
+	private void drain() {
+		List<LoggingEvent> batch = new ArrayList<LoggingEvent>(BATCH_SIZE);
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				LoggingEvent first = buffer.poll(500, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				buffer.drainTo(batch, BATCH_SIZE - 1);
+				write(batch);
+				batch.clear();
+			} catch (InterruptedException e) {
+				break;
+			}
+		}
+		batch.clear();
+		buffer.drainTo(batch);
+		write(batch);
+	}
+
+	private void write(List<LoggingEvent> batch) {
+		long lost = dropped.getAndSet(0);
+		if (lost > 0) {
+			forward(event(Level.WARN, "Buffer de log cheio: [" + lost + "] eventos descartados."));
+		}
+		forward(batch);
+		pending.addAndGet(-batch.size());
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		writer.interrupt();
+		try {
+			writer.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		closeAppenders();
+	}
+}
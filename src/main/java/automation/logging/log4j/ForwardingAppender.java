@@ -0,0 +1,155 @@
+package automation.logging.log4j;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Base dos appenders que apenas decidem quando e se os eventos chegam aos appenders de destino
+ * (console e arquivo) configurados no log4j.properties.
+*/
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.apache.log4j.Appender;
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.helpers.AppenderAttachableImpl;
+import org.apache.log4j.spi.AppenderAttachable;
+import org.apache.log4j.spi.LoggingEvent;
+
+public abstract class ForwardingAppender extends AppenderSkeleton implements AppenderAttachable {
+
+	private final AppenderAttachableImpl appenders = new AppenderAttachableImpl();
+
+	// ******************************
+	// Encaminhamento
+	// ******************************
+
+	/**
+	 * Captura na thread do chamador os dados dependentes de contexto (mensagem,
+	 * thread, MDC e NDC), permitindo que o evento seja escrito depois ou por outra
+	 * thread.
+	 *
+	 * @param LoggingEvent - Evento recebido.
+	 */
+	protected static void capture(LoggingEvent event) {
+		event.getRenderedMessage();
+		event.getThreadName();
+		event.getNDC();
+		event.getMDCCopy();
+		event.getThrowableStrRep();
+	}
+
+	/**
+	 * Repassa os eventos aos appenders de destino.
+	 *
+	 * @param Iterable<LoggingEvent> - Eventos a serem escritos.
+	 */
+	protected void forward(Iterable<LoggingEvent> events) {
+		synchronized (appenders) {
+			for (LoggingEvent event : events) {
+				appenders.appendLoopOnAppenders(event);
+			}
+		}
+	}
+
+	/**
+	 * Repassa um evento aos appenders de destino.
+	 *
+	 * @param LoggingEvent - Evento a ser escrito.
+	 */
+	protected void forward(LoggingEvent event) {
+		synchronized (appenders) {
+			appenders.appendLoopOnAppenders(event);
+		}
+	}
+
+	/**
+	 * Cria um evento gerado pelo prprio appender (ex: resumos).
+	 *
+	 * @param Level  - Nvel do evento.
+	 * @param String - Mensagem.
+	 * @return LoggingEvent
+	 */
+	protected LoggingEvent event(Level level, String message) {
+		return new LoggingEvent(getClass().getName(), Logger.getLogger(getClass()), level, message, null);
+	}
+
+	/**
+	 * Fecha os appenders de destino.
+	 */
+	protected void closeAppenders() {
+		List<Appender> attached = new ArrayList<Appender>();
+		synchronized (appenders) {
+			Enumeration<?> all = appenders.getAllAppenders();
+			while (all != null && all.hasMoreElements()) {
+				attached.add((Appender) all.nextElement());
+			}
+		}
+		for (Appender appender : attached) {
+			appender.close();
+		}
+	}
+
+	@Override
+	public boolean requiresLayout() {
+		return false;
+	}
+
+	// ******************************
+	// Appenders de destino
+	// ******************************
+
+	@Override
+	public void addAppender(Appender appender) {
+		synchronized (appenders) {
+			appenders.addAppender(appender);
+		}
+	}
+
+	@Override
+	public Enumeration<?> getAllAppenders() {
+		synchronized (appenders) {
+			return appenders.getAllAppenders();
+		}
+	}
+
+	@Override
+	public Appender getAppender(String name) {
+		synchronized (appenders) {
+			return appenders.getAppender(name);
+		}
+	}
+
+	@Override
+	public boolean isAttached(Appender appender) {
+		synchronized (appenders) {
+			return appenders.isAttached(appender);
+		}
+	}
+
+	@Override
+	public void removeAllAppenders() {
+		synchronized (appenders) {
+			appenders.removeAllAppenders();
+		}
+	}
+
+	@Override
+	public void removeAppender(Appender appender) {
+		synchronized (appenders) {
+			appenders.removeAppender(appender);
+		}
+	}
+
+	@Override
+	public void removeAppender(String name) {
+		synchronized (appenders) {
+			appenders.removeAppender(name);
+		}
+	}
+}
@@ -10,16 +10,106 @@ package automation.logging.log4j;
 */
 
 import java.io.File;
+import java.net.URL;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.function.Supplier;
 
+import org.apache.log4j.Appender;
 import org.apache.log4j.Logger;
 import org.apache.log4j.PropertyConfigurator;
 
-import automation.core.utils.Utils;
+import automation.core.utils.Config;
 
 public class Log4JSetup {
 
-	private static Logger logger;
 	private static final String RESOURCES = "src/main/resources";
+	private static final String CONFIG = "log4j.properties";
+	private static final int DEFAULT_ASYNC_CAPACITY = 8192;
+	private static final int DEFAULT_SCENARIO_EVENTS = 5000;
+
+	// ******************************
+	// Configurao
+	// ******************************
+
+	/**
+	 * Configurao realizada uma nica vez por JVM, na primeira obteno de um
+	 * Logger. O nome do arquivo de log (fName)  fixado no incio da execuo,
+	 * podendo ser informado externamente via -DfName. A data  formatada aqui, sem
+	 * a classe Utils, pois qualquer classe que obtenha um Logger durante a sua
+	 * inicializao criaria o arquivo de log antes do fName ser definido.
+	 */
+	private static class Configuration {
+
+		private static ScenarioLogBuffer scenarios;
+		private static final String RUN_NAME = configure();
+
+		private static String configure() {
+			if (System.getProperty("fName") == null) {
+				SimpleDateFormat formatter = new SimpleDateFormat("dd_MM_yyyy[HH-mm]");
+				formatter.setTimeZone(TimeZone.getTimeZone("GMT-3:00"));
+				System.setProperty("fName", formatter.format(new Date()));
+			}
+
+			File file = new File(System.getProperty("user.dir") + File.separator + RESOURCES + File.separator + CONFIG);
+			URL resource = Log4JSetup.class.getClassLoader().getResource(CONFIG);
+			if (file.isFile()) {
+				PropertyConfigurator.configure(file.getAbsolutePath());
+			} else if (resource != null) {
+				PropertyConfigurator.configure(resource);
+			}
+			setupAppenders();
+			return System.getProperty("fName");
+		}
+
+		/**
+		 * Encadeia os appenders opcionais na frente dos appenders do rootLogger:
+		 * log.scenario.buffer retm os eventos de cada cenrio
+		 * ({@link ScenarioLogBuffer}) e log.async escreve em segundo plano
+		 * ({@link AsyncRingAppender}, capacidade em log.async.capacity).
+		 */
+		private static void setupAppenders() {
+			Config config = Config.get();
+			if (config.isEnabled("log.async")) {
+				AsyncRingAppender ring = new AsyncRingAppender(config.getInt("log.async.capacity", DEFAULT_ASYNC_CAPACITY));
+				wrapRoot(ring, "AsyncRing");
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> ring.flush(2000)));
+			}
+
+			if (config.isEnabled("log.scenario.buffer")) {
+				scenarios = new ScenarioLogBuffer(config.getDouble("log.scenario.sample", 0),
+						config.getInt("log.scenario.maxEvents", DEFAULT_SCENARIO_EVENTS));
+				wrapRoot(scenarios, "ScenarioBuffer");
+			}
+		}
+
+		private static void wrapRoot(ForwardingAppender wrapper, String name) {
+			Logger root = Logger.getRootLogger();
+			List<Appender> attached = new ArrayList<Appender>();
+			for (Enumeration<?> appenders = root.getAllAppenders(); appenders.hasMoreElements();) {
+				attached.add((Appender) appenders.nextElement());
+			}
+			for (Appender appender : attached) {
+				root.removeAppender(appender);
+				wrapper.addAppender(appender);
+			}
+			wrapper.setName(name);
+			root.addAppender(wrapper);
+		}
+	}
+
+	/**
+	 * Retorna o nome da execuo utilizado no arquivo de log.
+	 * 
+	 * @return String - Nome fixo da execuo (ex: 17_10_2026[10-30]).
+	 */
+	public static String getRunName() {
+		return Configuration.RUN_NAME;
+	}
 
 	// ******************************
 	// Getters
@@ -40,19 +130,70 @@ public class Log4JSetup {
 	/**
 	 * Responsavel por criar um objeto do tipo Logger com base em uma classe
 	 * informada rastreando sua origem para gerar determinar como os logs sero
-	 * gerados.
+	 * gerados. A configurao do log4j  carregada apenas na primeira chamada; as
+	 * demais apenas consultam o Logger j registrado.
 	 * 
 	 * @param Class - Qualquer classe disponvel.
 	 * @return Logger - Instancia do tipo Logger apta a registrar os eventos a
 	 *         partir do nvel de Info.
 	 */
 	public static Logger getLogger(Class<? extends Object> classTarget) {
-		System.setProperty("fName", Utils.getCurrentDateTime("dd_MM_yyyy[HH-mm]"));
-		logger = Logger.getLogger(classTarget);
-		String log4jConfigFile = System.getProperty("user.dir") + File.separator + RESOURCES + File.separator
-				+ "log4j.properties";
-		PropertyConfigurator.configure(log4jConfigFile);
+		getRunName();
+		return Logger.getLogger(classTarget);
+	}
 
-		return logger;
+	// ******************************
+	// Cenrios
+	// ******************************
+
+	/**
+	 * Responsavel por iniciar a reteno dos logs do cenrio executado pela
+	 * thread atual (log.scenario.buffer). Deve ser chamado no hook @Before.
+	 * 
+	 * @param String - Nome do cenrio.
+	 */
+	public static void startScenario(String name) {
+		getRunName();
+		if (Configuration.scenarios != null) {
+			Configuration.scenarios.start(name);
+		}
+	}
+
+	/**
+	 * Responsavel por encerrar a reteno dos logs do cenrio da thread atual. O
+	 * log completo  escrito apenas quando o cenrio falha ou  sorteado pela
+	 * amostragem (log.scenario.sample); cenrios aprovados geram uma linha de
+	 * resumo. Deve ser chamado ao final do hook @After.
+	 * 
+	 * @param boolean - true caso o cenrio tenha falhado.
+	 */
+	public static void finishScenario(boolean failed) {
+		getRunName();
+		if (Configuration.scenarios != null) {
+			Configuration.scenarios.finish(failed);
+		}
+	}
+
+	// ******************************
+	// Mensagens
+	// ******************************
+
+	/**
+	 * Responsavel por registrar uma mensagem de nvel Info construda apenas
+	 * quando o nvel estiver habilitado. Indicado para mensagens que consultam o
+	 * browser (ex: texto de um elemento); falhas na construo da mensagem no
+	 * interrompem a execuo.
+	 * 
+	 * @param Logger   - Logger de origem.
+	 * @param Supplier - Construtor da mensagem.
+	 */
+	public static void info(Logger logger, Supplier<String> message) {
+		if (logger.isInfoEnabled()) {
+			try {
+				logger.info(message.get());
+			} catch (RuntimeException e) {
+				logger.info("Mensagem de log indisponvel: " + e.getClass().getSimpleName());
+			}
+		}
 	}
 }
@@ -0,0 +1,121 @@
+package automation.logging.log4j;
+
+/*
+ * @author Luiz Felipe Alves de Sousa
+ * @version 1.00
+ * @since 17/10/2026
+ *
+ * Appender que mantm em memria, por thread, os eventos do cenrio em execuo. O log completo do
+ * cenrio s  escrito quando ele falha ou  sorteado pela taxa de amostragem; cenrios aprovados geram
+ * apenas uma linha de resumo. Eventos fora de um cenrio so escritos normalmente.
+*/
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.spi.LoggingEvent;
+
+public class ScenarioLogBuffer extends ForwardingAppender {
+
+	private static final ThreadLocal<Scenario> current = new ThreadLocal<Scenario>();
+
+	private final double sampleRate;
+	private final int maxEvents;
+
+	/**
+	 * Cria o appender de cenrios.
+	 *
+	 * @param double - Frao dos cenrios aprovados com log completo (0 a 1).
+	 * @param int    - Quantidade mxima de eventos mantidos por cenrio (os mais
+	 *               recentes so preservados).
+	 */
+	public ScenarioLogBuffer(double sampleRate, int maxEvents) {
+		this.sampleRate = sampleRate;
+		this.maxEvents = Math.max(1, maxEvents);
+	}
+
+	// ******************************
+	// Cenrios
+	// ******************************
+
+	/**
+	 * Inicia a reteno dos eventos da thread atual para o cenrio informado.
+	 *
+	 * @param String - Nome do cenrio.
+	 */
+	public void start(String name) {
+		current.set(new Scenario(name));
+	}
+
+	/**
+	 * Encerra o cenrio da thread atual: escreve todos os eventos retidos caso o
+	 * cenrio tenha falhado ou seja sorteado pela amostragem, ou apenas uma linha
+	 * de resumo caso contrrio.
+	 *
+	 * @param boolean - true caso o cenrio tenha falhado.
+	 */
+	public void finish(boolean failed) {
+		Scenario scenario = current.get();
+		current.remove();
+		if (scenario == null) {
+			return;
+		}
+
+		boolean sampled = !failed && ThreadLocalRandom.current().nextDouble() < sampleRate;
+		if (failed || sampled) {
+			if (scenario.omitted > 0) {
+				forward(event(Level.WARN, "Cenrio [" + scenario.name + "]: [" + scenario.omitted
+						+ "] eventos iniciais omitidos."));
+			}
+			forward(scenario.events);
+		}
+		forward(event(failed ? Level.ERROR : Level.INFO, "Cenrio [" + scenario.name + "] "
+				+ (failed ? "falhou" : "aprovado") + " - [" + (scenario.events.size() + scenario.omitted)
+				+ "] eventos" + (failed || sampled ? "." : " suprimidos.")));
+	}
+
+	// ******************************
+	// Reteno
+	// ******************************
+
+	@Override
+	protected void append(LoggingEvent event) {
+		Scenario scenario = current.get();
+		if (scenario == null) {
+			forward(event);
+			return;
+		}
+
+		capture(event);
+		scenario.events.addLast(event);
+		if (scenario.events.size() > maxEvents) {
+			scenario.events.removeFirst();
+			scenario.omitted++;
+		}
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		closeAppenders();
+	}
+
+	/**
+	 * Eventos retidos de um cenrio.
+	 */
+	private static class Scenario {
+
+		private final String name;
+		private final Deque<LoggingEvent> events = new ArrayDeque<LoggingEvent>();
+		private long omitted;
+
+		private Scenario(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package automation.core.driver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+
+import com.sun.net.httpserver.HttpServer;
+
+/*
+ * Valida o transporte remoto contra um endpoint WebDriver local de substituicao, sem um selenium hub real:
+ * comandos sequenciais devem reutilizar uma unica conexao persistente do pool.
+ */
+public class RemoteTransportTest {
+
+	private static final int COMMANDS = 20;
+
+	private HttpServer server;
+	private URL url;
+
+	@Before
+	public void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			byte[] body = "{\"value\":{\"ready\":true,\"message\":\"stand-in\"}}".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		url = new URL("http://localhost:" + server.getAddress().getPort());
+	}
+
+	@After
+	public void stopServer() {
+		RemoteTransport.factory().cleanupIdleClients();
+		server.stop(0);
+	}
+
+	@Test
+	public void reusesOnePooledConnectionForAllCommands() throws IOException {
+		RemoteTransport.factory().cleanupIdleClients();
+		HttpClient client = RemoteTransport.factory().createClient(url);
+
+		for (int i = 0; i < COMMANDS; i++) {
+			assertEquals(HttpURLConnection.HTTP_OK, client.execute(new HttpRequest(HttpMethod.GET, "/status")).getStatus());
+			client.execute(new HttpRequest(HttpMethod.POST, "/session/stand-in/element/" + i + "/click"));
+		}
+
+		assertEquals(1, RemoteTransport.openConnections());
+		assertEquals(COMMANDS, RemoteTransport.commandsServed("stand-in"));
+		assertTrue(RemoteTransport.metrics().containsKey("POST /session/{id}/element/{id}/click"));
+	}
+}
@@ -1,6 +1,11 @@
 package automation.test.pages;
 
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
 import automation.core.base.WebBasePage;
+import automation.core.base.WebBatch;
 import automation.test.objects.GoogleObject;
 
 public class GooglePage extends WebBasePage {
@@ -8,9 +13,9 @@ public class GooglePage extends WebBasePage {
 	private GoogleObject Google = new GoogleObject();
 
 	public void search(String content) {
-		type(Google.field, content);
-		click(Google.searchButton);
-		waitPresenceOfElement(Google.results);
+		List<WebBatch.Result> results = batch().type(Google.field, content).click(Google.searchButton)
+				.waitPresence(Google.results).run();
+		assertTrue("Falha ao realizar a pesquisa " + results, WebBatch.succeeded(results));
 	}
 
 	public void validateSearch(String content) {
@@ -0,0 +1,32 @@
+package automation.test.runner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+
+import automation.core.utils.WorkerContext;
+import io.cucumber.core.cli.Main;
+
+/*
+ * Executa os cenarios em paralelo com a quantidade de workers definida em run.parallel.threads.
+ * Cada worker possui seu proprio driver (DriverRegistry), pasta de downloads e contexto de log.
+ * Os resultados de todos os workers sao consolidados num unico relatorio em target/cucumber-reports.
+ *
+ * Uso: mvn test -Dtest=RunCucumberParallelTest
+ */
+public class RunCucumberParallelTest {
+
+	@Test
+	public void runParallel() {
+		assumeTrue(WorkerContext.isParallel());
+
+		String[] argv = new String[] { "--threads", String.valueOf(WorkerContext.threads()), "--strict",
+				"--monochrome", "--plugin", "pretty", "--plugin", "json:target/cucumber-reports/cucumber.json",
+				"--plugin", "html:target/cucumber-reports", "--glue", "automation.test.steps",
+				"src/test/resources/features" };
+
+		byte exitStatus = Main.run(argv, Thread.currentThread().getContextClassLoader());
+		assertEquals(0, exitStatus);
+	}
+}
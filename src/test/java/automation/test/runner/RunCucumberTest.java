@@ -1,7 +1,11 @@
 package automation.test.runner;
 
+import static org.junit.Assume.assumeFalse;
+
+import org.junit.BeforeClass;
 import org.junit.runner.RunWith;
 
+import automation.core.utils.WorkerContext;
 import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
 
@@ -10,4 +14,12 @@ import io.cucumber.junit.CucumberOptions;
 @CucumberOptions(strict = true, plugin = {
 		"pretty" }, monochrome = true, features = "src/test/resources/features", glue = "automation.test.steps")
 public class RunCucumberTest {
+
+	/*
+	 * Com run.parallel.threads maior que 1 os cenarios sao executados pelo RunCucumberParallelTest.
+	 */
+	@BeforeClass
+	public static void skipWhenParallel() {
+		assumeFalse(WorkerContext.isParallel());
+	}
 }
\ No newline at end of file
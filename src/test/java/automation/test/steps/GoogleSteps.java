@@ -1,21 +1,38 @@
 package automation.test.steps;
 
+import automation.logging.log4j.Log4JSetup;
 import automation.test.pages.GooglePage;
 import io.cucumber.core.api.Scenario;
 import io.cucumber.java.After;
+import io.cucumber.java.Before;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 
 public class GoogleSteps {
 
-	GooglePage google = new GooglePage();
+	GooglePage google;
+
+	@Before
+	public void setUp(Scenario scenario) {
+		Log4JSetup.startScenario(scenario.getName());
+		google = new GooglePage();
+	}
 
 	@After
 	public void tearDown(Scenario scenario) {
-		google.takeScreenshot(scenario.getName());
-		scenario.embed(google.takeScreenshot(), "image/png");
-		google.exitBrowser();
+		try {
+			if (google != null) {
+				try {
+					google.takeScreenshot(scenario.getName());
+					scenario.embed(google.takeScreenshot(), "image/png");
+				} finally {
+					google.exitBrowser();
+				}
+			}
+		} finally {
+			Log4JSetup.finishScenario(scenario.isFailed());
+		}
 	}
 
 	@Given("I am on the google page")